@@ -0,0 +1,21 @@
+package com.admin.catalogo.application.category.category.create;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.exceptions.Notification;
+import com.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public record BatchCreateCategoryOutput(
+        int index,
+        String id,
+        List<Error> errors
+) {
+    public static BatchCreateCategoryOutput created(final int anIndex, final Category aCategory) {
+        return new BatchCreateCategoryOutput(anIndex, aCategory.getId().getValue(), List.of());
+    }
+
+    public static BatchCreateCategoryOutput failed(final int anIndex, final Notification aNotification) {
+        return new BatchCreateCategoryOutput(anIndex, null, List.copyOf(aNotification.getErrors()));
+    }
+}
@@ -0,0 +1,10 @@
+package com.admin.catalogo.application.category.category.create;
+
+import com.admin.catalogo.application.category.UseCase;
+
+import java.util.List;
+
+public abstract class BatchCreateCategoryUseCase
+        extends UseCase<List<CreateCategoryCommand>, List<BatchCreateCategoryOutput>> {
+
+}
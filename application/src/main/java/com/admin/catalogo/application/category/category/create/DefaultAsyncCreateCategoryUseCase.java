@@ -0,0 +1,42 @@
+package com.admin.catalogo.application.category.category.create;
+
+import com.admin.catalogo.domain.category.AsyncCategoryGateway;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.exceptions.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public class DefaultAsyncCreateCategoryUseCase extends AsyncCreateCategoryUseCase {
+
+    private final AsyncCategoryGateway categoryGateway;
+
+    public DefaultAsyncCreateCategoryUseCase(final AsyncCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CompletableFuture<Either<Notification, CreateCategoryOutput>> execute(final CreateCategoryCommand aCommand) {
+        final var notification = Notification.create();
+        final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+        aCategory.validate(notification);
+
+        if (notification.hasErrors()) {
+            return CompletableFuture.completedFuture(API.Left(notification));
+        }
+
+        return this.categoryGateway.create(aCategory).handle(this::toEither);
+    }
+
+    private Either<Notification, CreateCategoryOutput> toEither(final Category aCategory, final Throwable throwable) {
+        if (throwable == null) return API.Right(CreateCategoryOutput.from(aCategory));
+
+        final var cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        return API.Left(Notification.create(cause));
+    }
+}
@@ -0,0 +1,76 @@
+package com.admin.catalogo.application.category.category.create;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.exceptions.DomainException;
+import com.admin.catalogo.domain.exceptions.Notification;
+import com.admin.catalogo.domain.validation.Error;
+import io.vavr.API;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBatchCreateCategoryUseCase extends BatchCreateCategoryUseCase {
+
+    public static final int MAX_BATCH_SIZE = 10_000;
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final CategoryGateway categoryGateway;
+    private final int chunkSize;
+
+    public DefaultBatchCreateCategoryUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, DEFAULT_CHUNK_SIZE);
+    }
+
+    public DefaultBatchCreateCategoryUseCase(final CategoryGateway categoryGateway, final int chunkSize) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public List<BatchCreateCategoryOutput> execute(final List<CreateCategoryCommand> someCommands) {
+        if (someCommands.size() > MAX_BATCH_SIZE) {
+            throw DomainException.with(new Error("'categories' must have at most %d items".formatted(MAX_BATCH_SIZE)));
+        }
+
+        final var outputs = new BatchCreateCategoryOutput[someCommands.size()];
+        final var validIndexes = new ArrayList<Integer>(someCommands.size());
+        final var validCategories = new ArrayList<Category>(someCommands.size());
+
+        for (int index = 0; index < someCommands.size(); index++) {
+            final var aCommand = someCommands.get(index);
+
+            final var notification = Notification.create();
+            final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+            aCategory.validate(notification);
+
+            if (notification.hasErrors()) {
+                outputs[index] = BatchCreateCategoryOutput.failed(index, notification);
+            } else {
+                validIndexes.add(index);
+                validCategories.add(aCategory);
+            }
+        }
+
+        // Cada bloco é uma transação: uma falha só afeta os itens do próprio bloco
+        for (int from = 0; from < validCategories.size(); from += chunkSize) {
+            final var to = Math.min(from + chunkSize, validCategories.size());
+            final var chunk = validCategories.subList(from, to);
+            final var chunkIndexes = validIndexes.subList(from, to);
+
+            API.Try(() -> this.categoryGateway.createAll(chunk))
+                    .onSuccess(created -> {
+                        for (int i = 0; i < created.size(); i++) {
+                            final var index = chunkIndexes.get(i);
+                            outputs[index] = BatchCreateCategoryOutput.created(index, created.get(i));
+                        }
+                    })
+                    .onFailure(throwable -> chunkIndexes.forEach(index ->
+                            outputs[index] = BatchCreateCategoryOutput.failed(index, Notification.create(throwable))));
+        }
+
+        return Arrays.asList(outputs);
+    }
+}
@@ -0,0 +1,9 @@
+package com.admin.catalogo.application.category.category.delete;
+
+import com.admin.catalogo.application.category.UseCase;
+
+import java.util.concurrent.CompletableFuture;
+
+public abstract class AsyncDeleteCategoryUseCase extends UseCase<String, CompletableFuture<Void>> {
+
+}
@@ -0,0 +1,21 @@
+package com.admin.catalogo.application.category.category.delete;
+
+import com.admin.catalogo.domain.category.AsyncCategoryGateway;
+import com.admin.catalogo.domain.category.CategoryID;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class DefaultAsyncDeleteCategoryUseCase extends AsyncDeleteCategoryUseCase {
+
+    private final AsyncCategoryGateway categoryGateway;
+
+    public DefaultAsyncDeleteCategoryUseCase(final AsyncCategoryGateway aCategoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(aCategoryGateway);
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(final String categoryID) {
+        return this.categoryGateway.deleteById(CategoryID.from(categoryID));
+    }
+}
@@ -0,0 +1,39 @@
+package com.admin.catalogo.application.category.category.retrieve.changes;
+
+import com.admin.catalogo.domain.category.CategoryChange;
+import com.admin.catalogo.domain.category.CategoryID;
+
+import java.time.Instant;
+
+// Para uma categoria removida só id, deleted e changedAt são preenchidos
+public record CategoryChangeOutput(
+        CategoryID id,
+        boolean deleted,
+        Instant changedAt,
+        String name,
+        String description,
+        Boolean isActive,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+
+    public static CategoryChangeOutput from(final CategoryChange aChange) {
+        if (aChange.isDeleted()) {
+            return new CategoryChangeOutput(aChange.id(), true, aChange.changedAt(), null, null, null, null, null, null);
+        }
+
+        final var aCategory = aChange.category();
+        return new CategoryChangeOutput(
+                aChange.id(),
+                false,
+                aChange.changedAt(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                aCategory.getDeletedAt()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package com.admin.catalogo.application.category.category.retrieve.changes;
+
+import com.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.Objects;
+
+public class DefaultListCategoryChangesUseCase extends ListCategoryChangesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultListCategoryChangesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Pagination<CategoryChangeOutput> execute(final CategoryChangesQuery aQuery) {
+        return this.categoryGateway.findChanges(aQuery)
+                .map(CategoryChangeOutput::from);
+    }
+}
@@ -0,0 +1,8 @@
+package com.admin.catalogo.application.category.category.retrieve.changes;
+
+import com.admin.catalogo.application.category.UseCase;
+import com.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.admin.catalogo.domain.pagination.Pagination;
+
+public abstract class ListCategoryChangesUseCase extends UseCase<CategoryChangesQuery, Pagination<CategoryChangeOutput>> {
+}
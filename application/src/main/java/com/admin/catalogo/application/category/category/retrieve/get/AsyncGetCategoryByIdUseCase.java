@@ -0,0 +1,8 @@
+package com.admin.catalogo.application.category.category.retrieve.get;
+
+import com.admin.catalogo.application.category.UseCase;
+
+import java.util.concurrent.CompletableFuture;
+
+public abstract class AsyncGetCategoryByIdUseCase extends UseCase<String, CompletableFuture<CategoryOutput>> {
+}
@@ -0,0 +1,28 @@
+package com.admin.catalogo.application.category.category.retrieve.get;
+
+import com.admin.catalogo.domain.category.AsyncCategoryGateway;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.exceptions.NotFoundException;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class DefaultAsyncGetCategoryByIdUseCase extends AsyncGetCategoryByIdUseCase {
+
+    private final AsyncCategoryGateway categoryGateway;
+
+    public DefaultAsyncGetCategoryByIdUseCase(final AsyncCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CompletableFuture<CategoryOutput> execute(final String anIn) {
+        final var categoryID = CategoryID.from(anIn);
+
+        return this.categoryGateway.findById(categoryID)
+                .thenApply(found -> found
+                        .map(CategoryOutput::from)
+                        .orElseThrow(() -> NotFoundException.with(Category.class, categoryID)));
+    }
+}
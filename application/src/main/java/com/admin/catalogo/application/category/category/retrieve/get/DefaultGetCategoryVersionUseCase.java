@@ -0,0 +1,27 @@
+package com.admin.catalogo.application.category.category.retrieve.get;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.exceptions.NotFoundException;
+
+import java.time.Instant;
+import java.util.Objects;
+
+// Retorna só o updatedAt da categoria, usado para validar ETag/Last-Modified sem montar o CategoryOutput
+public class DefaultGetCategoryVersionUseCase extends GetCategoryVersionUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoryVersionUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Instant execute(final String anIn) {
+        final var categoryID = CategoryID.from(anIn);
+
+        return this.categoryGateway.findUpdatedAtById(categoryID)
+                .orElseThrow(() -> NotFoundException.with(Category.class, categoryID));
+    }
+}
@@ -0,0 +1,8 @@
+package com.admin.catalogo.application.category.category.retrieve.get;
+
+import com.admin.catalogo.application.category.UseCase;
+
+import java.time.Instant;
+
+public abstract class GetCategoryVersionUseCase extends UseCase<String, Instant> {
+}
@@ -0,0 +1,11 @@
+package com.admin.catalogo.application.category.category.retrieve.list;
+
+import com.admin.catalogo.application.category.UseCase;
+import com.admin.catalogo.domain.category.CategorySearchQuery;
+import com.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.concurrent.CompletableFuture;
+
+public abstract class AsyncListCategoriesUseCase
+        extends UseCase<CategorySearchQuery, CompletableFuture<Pagination<CategoryListOutput>>> {
+}
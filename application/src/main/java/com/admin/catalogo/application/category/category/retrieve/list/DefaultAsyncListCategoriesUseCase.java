@@ -0,0 +1,23 @@
+package com.admin.catalogo.application.category.category.retrieve.list;
+
+import com.admin.catalogo.domain.category.AsyncCategoryGateway;
+import com.admin.catalogo.domain.category.CategorySearchQuery;
+import com.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class DefaultAsyncListCategoriesUseCase extends AsyncListCategoriesUseCase {
+
+    private final AsyncCategoryGateway categoryGateway;
+
+    public DefaultAsyncListCategoriesUseCase(final AsyncCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CompletableFuture<Pagination<CategoryListOutput>> execute(final CategorySearchQuery aQuery) {
+        return this.categoryGateway.findAll(aQuery)
+                .thenApply(page -> page.map(CategoryListOutput::from));
+    }
+}
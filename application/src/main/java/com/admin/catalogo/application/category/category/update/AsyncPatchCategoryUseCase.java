@@ -0,0 +1,12 @@
+package com.admin.catalogo.application.category.category.update;
+
+import com.admin.catalogo.application.category.UseCase;
+import com.admin.catalogo.domain.exceptions.Notification;
+import io.vavr.control.Either;
+
+import java.util.concurrent.CompletableFuture;
+
+public abstract class AsyncPatchCategoryUseCase
+        extends UseCase<PatchCategoryCommand, CompletableFuture<Either<Notification, UpdateCategoryOutput>>> {
+
+}
@@ -0,0 +1,12 @@
+package com.admin.catalogo.application.category.category.update;
+
+import com.admin.catalogo.application.category.UseCase;
+import com.admin.catalogo.domain.exceptions.Notification;
+import io.vavr.control.Either;
+
+import java.util.concurrent.CompletableFuture;
+
+public abstract class AsyncUpdateCategoryUseCase
+        extends UseCase<UpdateCategoryCommand, CompletableFuture<Either<Notification, UpdateCategoryOutput>>> {
+
+}
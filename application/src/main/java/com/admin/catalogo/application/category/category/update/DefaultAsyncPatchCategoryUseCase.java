@@ -0,0 +1,60 @@
+package com.admin.catalogo.application.category.category.update;
+
+import com.admin.catalogo.domain.category.AsyncCategoryGateway;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryField;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.exceptions.ConflictException;
+import com.admin.catalogo.domain.exceptions.NotFoundException;
+import com.admin.catalogo.domain.exceptions.Notification;
+import com.admin.catalogo.domain.validation.Error;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+// Mesmas regras do DefaultPatchCategoryUseCase; o gateway R2DBC grava a linha inteira, protegida pela versão
+public class DefaultAsyncPatchCategoryUseCase extends AsyncPatchCategoryUseCase {
+
+    private final AsyncCategoryGateway categoryGateway;
+
+    public DefaultAsyncPatchCategoryUseCase(final AsyncCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CompletableFuture<Either<Notification, UpdateCategoryOutput>> execute(final PatchCategoryCommand aCommand) {
+        final var anId = CategoryID.from(aCommand.id());
+
+        return this.categoryGateway.findById(anId).thenCompose(found -> {
+            final var aCategory = found.orElseThrow(() -> NotFoundException.with(Category.class, anId));
+
+            if (!DefaultUpdateCategoryUseCase.matches(aCommand.expectedUpdatedAt(), aCategory)) {
+                throw ConflictException.with(Category.class, anId);
+            }
+
+            if (aCommand.fields().contains(CategoryField.ACTIVE) && aCommand.isActive() == null) {
+                return CompletableFuture.completedFuture(API.Left(Notification.create(new Error("'is_active' should not be null"))));
+            }
+
+            final var changed = aCategory.patch(
+                    aCommand.fields(),
+                    aCommand.name(),
+                    aCommand.description(),
+                    Boolean.TRUE.equals(aCommand.isActive())
+            );
+
+            if (changed.isEmpty()) return CompletableFuture.completedFuture(API.Right(UpdateCategoryOutput.from(aCategory)));
+
+            final var notification = Notification.create();
+            aCategory.validate(notification, changed);
+
+            if (notification.hasErrors()) {
+                return CompletableFuture.completedFuture(API.Left(notification));
+            }
+
+            return this.categoryGateway.update(aCategory).handle(DefaultAsyncUpdateCategoryUseCase::toEither);
+        });
+    }
+}
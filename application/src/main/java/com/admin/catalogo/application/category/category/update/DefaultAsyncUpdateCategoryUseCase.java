@@ -0,0 +1,60 @@
+package com.admin.catalogo.application.category.category.update;
+
+import com.admin.catalogo.domain.category.AsyncCategoryGateway;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.exceptions.ConflictException;
+import com.admin.catalogo.domain.exceptions.NotFoundException;
+import com.admin.catalogo.domain.exceptions.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public class DefaultAsyncUpdateCategoryUseCase extends AsyncUpdateCategoryUseCase {
+
+    private final AsyncCategoryGateway categoryGateway;
+
+    public DefaultAsyncUpdateCategoryUseCase(final AsyncCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CompletableFuture<Either<Notification, UpdateCategoryOutput>> execute(final UpdateCategoryCommand aCommand) {
+        final var anId = CategoryID.from(aCommand.id());
+
+        return this.categoryGateway.findById(anId).thenCompose(found -> {
+            final var aCategory = found.orElseThrow(() -> NotFoundException.with(Category.class, anId));
+
+            // O If-Match é conferido contra a leitura; a versão lida protege o UPDATE contra escritas entre os dois
+            if (!DefaultUpdateCategoryUseCase.matches(aCommand.expectedUpdatedAt(), aCategory)) {
+                throw ConflictException.with(Category.class, anId);
+            }
+
+            final var notification = Notification.create();
+            aCategory.update(aCommand.name(), aCommand.description(), aCommand.isActive())
+                    .validate(notification);
+
+            if (notification.hasErrors()) {
+                return CompletableFuture.completedFuture(API.Left(notification));
+            }
+
+            return this.categoryGateway.update(aCategory).handle(DefaultAsyncUpdateCategoryUseCase::toEither);
+        });
+    }
+
+    static Either<Notification, UpdateCategoryOutput> toEither(final Category aCategory, final Throwable throwable) {
+        if (throwable == null) return API.Right(UpdateCategoryOutput.from(aCategory));
+
+        final var cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+
+        // Como no DefaultUpdateCategoryUseCase, conflito de versão sobe como exceção (409) e não vira Notification
+        if (cause instanceof ConflictException conflict) throw conflict;
+
+        return API.Left(Notification.create(cause));
+    }
+}
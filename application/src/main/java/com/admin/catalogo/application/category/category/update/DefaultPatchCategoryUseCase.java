@@ -0,0 +1,68 @@
+package com.admin.catalogo.application.category.category.update;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryField;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.exceptions.ConflictException;
+import com.admin.catalogo.domain.exceptions.NotFoundException;
+import com.admin.catalogo.domain.exceptions.Notification;
+import com.admin.catalogo.domain.validation.Error;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.Set;
+
+import static io.vavr.API.*;
+
+public class DefaultPatchCategoryUseCase extends PatchCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultPatchCategoryUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Either<Notification, UpdateCategoryOutput> execute(final PatchCategoryCommand aCommand) {
+        final var anId = CategoryID.from(aCommand.id());
+
+        final var aCategory = this.categoryGateway.findByIdForUpdate(anId)
+                .orElseThrow(() -> NotFoundException.with(Category.class, anId));
+
+        if (!DefaultUpdateCategoryUseCase.matches(aCommand.expectedUpdatedAt(), aCategory)) {
+            throw ConflictException.with(Category.class, anId);
+        }
+
+        // No merge patch null remove o valor, o que não existe para um boolean
+        if (aCommand.fields().contains(CategoryField.ACTIVE) && aCommand.isActive() == null) {
+            return Left(Notification.create(new Error("'is_active' should not be null")));
+        }
+
+        final var changed = aCategory.patch(
+                aCommand.fields(),
+                aCommand.name(),
+                aCommand.description(),
+                Boolean.TRUE.equals(aCommand.isActive())
+        );
+
+        // Nada mudou de valor: não há o que gravar
+        if (changed.isEmpty()) return Right(UpdateCategoryOutput.from(aCategory));
+
+        final var notification = Notification.create();
+        aCategory.validate(notification, changed);
+
+        return notification.hasErrors() ? Left(notification) : update(aCategory, changed);
+    }
+
+    private Either<Notification, UpdateCategoryOutput> update(final Category aCategory, final Set<CategoryField> changed) {
+        // Mesmo tratamento do DefaultUpdateCategoryUseCase: o conflito de versão sobe como exceção
+        try {
+            return Right(UpdateCategoryOutput.from(this.categoryGateway.update(aCategory, changed)));
+        } catch (final ConflictException ex) {
+            throw ex;
+        } catch (final Exception ex) {
+            return Left(Notification.create(ex));
+        }
+    }
+}
@@ -3,12 +3,15 @@ package com.admin.catalogo.application.category.category.update;
 import com.admin.catalogo.domain.category.Category;
 import com.admin.catalogo.domain.category.CategoryGateway;
 import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.exceptions.ConflictException;
 import com.admin.catalogo.domain.exceptions.DomainException;
 import com.admin.catalogo.domain.exceptions.NotFoundException;
 import com.admin.catalogo.domain.exceptions.Notification;
 import com.admin.catalogo.domain.validation.Error;
 import io.vavr.control.Either;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -29,9 +32,13 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
         final var aDescription = aCommand.description();
         final var isActive = aCommand.isActive();
 
-        final var aCategory= this.categoryGateway.findById(anId)
+        final var aCategory= this.categoryGateway.findByIdForUpdate(anId)
                 .orElseThrow(notFound(anId));
 
+        if (!matches(aCommand.expectedUpdatedAt(), aCategory)) {
+            throw ConflictException.with(Category.class, anId);
+        }
+
         final var notification = Notification.create();
         aCategory.update(aName, aDescription, isActive)
                 .validate(notification);
@@ -40,9 +47,20 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
     }
 
     private Either<Notification, UpdateCategoryOutput> update(Category aCategory) {
-        return Try(() -> this.categoryGateway.update(aCategory))
-                .toEither()
-                .bimap(Notification::create, UpdateCategoryOutput::from);
+        // Conflito de versão não é erro de validação: sobe como exceção ao invés de virar Notification
+        try {
+            return Right(UpdateCategoryOutput.from(this.categoryGateway.update(aCategory)));
+        } catch (final ConflictException ex) {
+            throw ex;
+        } catch (final Exception ex) {
+            return Left(Notification.create(ex));
+        }
+    }
+
+    // O ETag carrega o updatedAt com precisão de microssegundos, a mesma do DATETIME(6)
+    static boolean matches(final Instant expectedUpdatedAt, final Category aCategory) {
+        return expectedUpdatedAt == null
+                || expectedUpdatedAt.equals(aCategory.getUpdatedAt().truncatedTo(ChronoUnit.MICROS));
     }
 
     private static Supplier<DomainException> notFound(CategoryID anId) {
@@ -0,0 +1,30 @@
+package com.admin.catalogo.application.category.category.update;
+
+import com.admin.catalogo.domain.category.CategoryField;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+
+// JSON Merge Patch: fields diz quais propriedades vieram no corpo; as ausentes ficam como estão
+public record PatchCategoryCommand(
+        String id,
+        Set<CategoryField> fields,
+        String name,
+        String description,
+        Boolean isActive,
+        Instant expectedUpdatedAt
+) {
+
+    public static PatchCategoryCommand with(
+            final String anId,
+            final Set<CategoryField> fields,
+            final String aName,
+            final String aDescription,
+            final Boolean isActive,
+            final Instant expectedUpdatedAt
+    ) {
+        final var someFields = fields.isEmpty() ? EnumSet.noneOf(CategoryField.class) : EnumSet.copyOf(fields);
+        return new PatchCategoryCommand(anId, someFields, aName, aDescription, isActive, expectedUpdatedAt);
+    }
+}
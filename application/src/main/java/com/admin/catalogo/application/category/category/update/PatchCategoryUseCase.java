@@ -0,0 +1,9 @@
+package com.admin.catalogo.application.category.category.update;
+
+import com.admin.catalogo.application.category.UseCase;
+import com.admin.catalogo.domain.exceptions.Notification;
+import io.vavr.control.Either;
+
+public abstract class PatchCategoryUseCase extends UseCase<PatchCategoryCommand, Either<Notification, UpdateCategoryOutput>> {
+
+}
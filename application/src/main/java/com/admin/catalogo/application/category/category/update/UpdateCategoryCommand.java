@@ -1,12 +1,14 @@
 package com.admin.catalogo.application.category.category.update;
 
+import java.time.Instant;
 import java.util.Optional;
 
 public record UpdateCategoryCommand (
         String id,
         String name,
         String description,
-        Boolean isActive
+        Boolean isActive,
+        Instant expectedUpdatedAt
 ) {
 
     public static UpdateCategoryCommand with(
@@ -14,8 +16,19 @@ public record UpdateCategoryCommand (
             final String aName,
             final String aDescription,
             final Boolean isActive
+    ) {
+        return with(anId, aName, aDescription, isActive, null);
+    }
+
+    // expectedUpdatedAt vem do If-Match: a atualização só acontece se a categoria ainda estiver nessa versão
+    public static UpdateCategoryCommand with(
+            final String anId,
+            final String aName,
+            final String aDescription,
+            final Boolean isActive,
+            final Instant expectedUpdatedAt
     ) {
         final var validIsActive = Optional.ofNullable(isActive).orElse(true);
-        return new UpdateCategoryCommand(anId, aName, aDescription, validIsActive);
+        return new UpdateCategoryCommand(anId, aName, aDescription, validIsActive, expectedUpdatedAt);
     }
 }
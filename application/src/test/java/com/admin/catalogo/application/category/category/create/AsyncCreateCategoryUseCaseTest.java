@@ -0,0 +1,60 @@
+package com.admin.catalogo.application.category.category.create;
+
+import com.admin.catalogo.domain.category.AsyncCategoryGateway;
+import com.admin.catalogo.domain.category.Category;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncCreateCategoryUseCaseTest {
+
+    @InjectMocks
+    private DefaultAsyncCreateCategoryUseCase useCase;
+
+    @Mock
+    private AsyncCategoryGateway categoryGateway;
+
+    @Test
+    public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() {
+        final var aCommand = CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true);
+
+        when(categoryGateway.create(any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.<Category>getArgument(0)));
+
+        final var actualOutput = useCase.execute(aCommand).join().get();
+
+        assertNotNull(actualOutput.id());
+        verify(categoryGateway, times(1)).create(argThat(aCategory -> "Filmes".equals(aCategory.getName())));
+    }
+
+    @Test
+    public void givenAInvalidName_whenCallsCreateCategory_shouldReturnNotificationWithoutCallingGateway() {
+        final var aCommand = CreateCategoryCommand.with(null, "A categoria mais assistida", true);
+
+        final var notification = useCase.execute(aCommand).join().getLeft();
+
+        assertEquals("'name' should not be null", notification.firstError().message());
+        verify(categoryGateway, never()).create(any());
+    }
+
+    @Test
+    public void givenAGatewayFailure_whenCallsCreateCategory_shouldReturnNotification() {
+        final var expectedErrorMessage = "Gateway error";
+        final var aCommand = CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true);
+
+        when(categoryGateway.create(any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException(expectedErrorMessage)));
+
+        final var notification = useCase.execute(aCommand).join().getLeft();
+
+        assertEquals(expectedErrorMessage, notification.firstError().message());
+    }
+}
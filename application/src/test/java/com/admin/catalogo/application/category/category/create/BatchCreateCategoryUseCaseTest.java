@@ -0,0 +1,117 @@
+package com.admin.catalogo.application.category.category.create;
+
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchCreateCategoryUseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private DefaultBatchCreateCategoryUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultBatchCreateCategoryUseCase(categoryGateway, 2);
+    }
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsBatchCreate_shouldPersistOnlyValidOnesAndReturnOneResultPerItem() {
+        final var someCommands = List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with(null, "A categoria mais assistida", true),
+                CreateCategoryCommand.with("Series", "Categoria de séries", true),
+                CreateCategoryCommand.with("Documentarios", "Categoria de documentários", false)
+        );
+
+        when(categoryGateway.createAll(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        final var actualOutput = useCase.execute(someCommands);
+
+        assertEquals(4, actualOutput.size());
+        for (int i = 0; i < actualOutput.size(); i++) {
+            assertEquals(i, actualOutput.get(i).index());
+        }
+
+        assertNotNull(actualOutput.get(0).id());
+        assertTrue(actualOutput.get(0).errors().isEmpty());
+
+        assertNull(actualOutput.get(1).id());
+        assertEquals("'name' should not be null", actualOutput.get(1).errors().get(0).message());
+
+        assertNotNull(actualOutput.get(2).id());
+        assertNotNull(actualOutput.get(3).id());
+
+        //3 válidos com blocos de 2: duas chamadas ao gateway
+        verify(categoryGateway, times(1)).createAll(argThat(chunk -> chunk.size() == 2
+                && chunk.get(0).getName().equals("Filmes")
+                && chunk.get(1).getName().equals("Series")));
+        verify(categoryGateway, times(1)).createAll(argThat(chunk -> chunk.size() == 1
+                && chunk.get(0).getName().equals("Documentarios")));
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsBatchCreate_shouldFailOnlyItemsOfThatChunk() {
+        final var expectedErrorMessage = "Gateway error";
+
+        final var someCommands = List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with("Series", "Categoria de séries", true),
+                CreateCategoryCommand.with("Documentarios", "Categoria de documentários", true)
+        );
+
+        when(categoryGateway.createAll(any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        final var actualOutput = useCase.execute(someCommands);
+
+        assertNull(actualOutput.get(0).id());
+        assertEquals(expectedErrorMessage, actualOutput.get(0).errors().get(0).message());
+        assertNull(actualOutput.get(1).id());
+        assertEquals(expectedErrorMessage, actualOutput.get(1).errors().get(0).message());
+
+        assertNotNull(actualOutput.get(2).id());
+        assertTrue(actualOutput.get(2).errors().isEmpty());
+    }
+
+    @Test
+    public void givenOnlyInvalidCommands_whenCallsBatchCreate_shouldNotCallGateway() {
+        final var someCommands = List.of(
+                CreateCategoryCommand.with("  ", "A categoria mais assistida", true)
+        );
+
+        final var actualOutput = useCase.execute(someCommands);
+
+        assertEquals("'name' should not be blank", actualOutput.get(0).errors().get(0).message());
+        verify(categoryGateway, never()).createAll(any());
+    }
+
+    @Test
+    public void givenTooManyCommands_whenCallsBatchCreate_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'categories' must have at most 10000 items";
+
+        final var someCommands = Collections.nCopies(
+                DefaultBatchCreateCategoryUseCase.MAX_BATCH_SIZE + 1,
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true)
+        );
+
+        final var actualException = assertThrows(DomainException.class, () -> useCase.execute(someCommands));
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(categoryGateway, never()).createAll(any());
+    }
+}
@@ -0,0 +1,61 @@
+package com.admin.catalogo.application.category.category.retrieve.changes;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryChange;
+import com.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ListCategoryChangesUseCaseTest {
+
+    @InjectMocks
+    private DefaultListCategoryChangesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void givenChangesAndTombstones_whenCallsListChanges_shouldMapBothAndKeepNextToken() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var aDeletedId = CategoryID.unique();
+        final var deletedAt = Instant.now();
+        final var expectedNext = "next-token";
+        final var aQuery = new CategoryChangesQuery("since-token", 10);
+
+        when(categoryGateway.findChanges(eq(aQuery))).thenReturn(new Pagination<>(
+                0, 10, Pagination.UNKNOWN_TOTAL,
+                List.of(CategoryChange.changed(aCategory), CategoryChange.deleted(aDeletedId, deletedAt)),
+                expectedNext, false));
+
+        final var actualResult = useCase.execute(aQuery);
+
+        Assertions.assertEquals(expectedNext, actualResult.nextCursor());
+        Assertions.assertFalse(actualResult.hasMore());
+
+        final var changed = actualResult.items().get(0);
+        Assertions.assertFalse(changed.deleted());
+        Assertions.assertEquals(aCategory.getId(), changed.id());
+        Assertions.assertEquals(aCategory.getName(), changed.name());
+        Assertions.assertEquals(aCategory.getUpdatedAt(), changed.changedAt());
+
+        final var deleted = actualResult.items().get(1);
+        Assertions.assertTrue(deleted.deleted());
+        Assertions.assertEquals(aDeletedId, deleted.id());
+        Assertions.assertEquals(deletedAt, deleted.changedAt());
+        Assertions.assertNull(deleted.name());
+    }
+}
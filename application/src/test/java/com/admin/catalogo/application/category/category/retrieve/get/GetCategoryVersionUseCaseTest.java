@@ -0,0 +1,52 @@
+package com.admin.catalogo.application.category.category.retrieve.get;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+class GetCategoryVersionUseCaseTest {
+
+    @InjectMocks
+    private DefaultGetCategoryVersionUseCase useCase;
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    @Test
+    void givenAValidId_whenCallsGetCategoryVersion_shouldReturnUpdatedAt() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var expectedId = aCategory.getId();
+
+        Mockito.when(categoryGateway.findUpdatedAtById(Mockito.eq(expectedId)))
+                .thenReturn(Optional.of(aCategory.getUpdatedAt()));
+
+        Assertions.assertEquals(aCategory.getUpdatedAt(), useCase.execute(expectedId.getValue()));
+        Mockito.verify(categoryGateway, Mockito.never()).findById(Mockito.any());
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsGetCategoryVersion_shouldReturnNotFound() {
+        final var expectedId = CategoryID.from("123");
+        final var expectedErrorMessage = "Category with ID %s was not found".formatted(expectedId.getValue());
+
+        Mockito.when(categoryGateway.findUpdatedAtById(Mockito.eq(expectedId))).thenReturn(Optional.empty());
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> useCase.execute(expectedId.getValue())
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
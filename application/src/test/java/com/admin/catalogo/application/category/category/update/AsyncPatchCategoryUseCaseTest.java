@@ -0,0 +1,63 @@
+package com.admin.catalogo.application.category.category.update;
+
+import com.admin.catalogo.domain.category.AsyncCategoryGateway;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryField;
+import com.admin.catalogo.domain.exceptions.ConflictException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncPatchCategoryUseCaseTest {
+
+    @InjectMocks
+    private DefaultAsyncPatchCategoryUseCase useCase;
+
+    @Mock
+    private AsyncCategoryGateway categoryGateway;
+
+    @Test
+    public void givenOnlyTheName_whenCallsPatchCategory_shouldKeepTheOtherFields() {
+        final var aCategory = Category.newCategory("Film", "A categoria mais assistida", true);
+        final var aCommand = PatchCategoryCommand.with(
+                aCategory.getId().getValue(), Set.of(CategoryField.NAME), "Filmes", null, null, null);
+
+        when(categoryGateway.findById(eq(aCategory.getId())))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(aCategory.clone())));
+        when(categoryGateway.update(any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.<Category>getArgument(0)));
+
+        useCase.execute(aCommand).join().get();
+
+        verify(categoryGateway, times(1)).update(argThat(anUpdated ->
+                "Filmes".equals(anUpdated.getName())
+                        && "A categoria mais assistida".equals(anUpdated.getDescription())
+                        && anUpdated.isActive()));
+    }
+
+    @Test
+    public void givenAStaleExpectedUpdatedAt_whenCallsPatchCategory_shouldThrowConflictWithoutUpdating() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var aCommand = PatchCategoryCommand.with(
+                aCategory.getId().getValue(), Set.of(CategoryField.NAME), "Filmes", null, null, aCategory.getUpdatedAt().minusSeconds(1));
+
+        when(categoryGateway.findById(eq(aCategory.getId())))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(aCategory.clone())));
+
+        final var actualException = assertThrows(CompletionException.class, () -> useCase.execute(aCommand).join());
+
+        assertInstanceOf(ConflictException.class, actualException.getCause());
+        verify(categoryGateway, never()).update(any());
+    }
+}
@@ -0,0 +1,61 @@
+package com.admin.catalogo.application.category.category.update;
+
+import com.admin.catalogo.domain.category.AsyncCategoryGateway;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.exceptions.ConflictException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncUpdateCategoryUseCaseTest {
+
+    @InjectMocks
+    private DefaultAsyncUpdateCategoryUseCase useCase;
+
+    @Mock
+    private AsyncCategoryGateway categoryGateway;
+
+    @Test
+    public void givenAMatchingExpectedUpdatedAt_whenCallsUpdateCategory_shouldUpdateCategory() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var expectedUpdatedAt = aCategory.getUpdatedAt().truncatedTo(ChronoUnit.MICROS);
+        final var aCommand = UpdateCategoryCommand.with(
+                aCategory.getId().getValue(), "Filmes", "A categoria mais assistida", true, expectedUpdatedAt);
+
+        when(categoryGateway.findById(eq(aCategory.getId())))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(aCategory.clone())));
+        when(categoryGateway.update(any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.<Category>getArgument(0)));
+
+        final var actualOutput = useCase.execute(aCommand).join().get();
+
+        assertEquals(aCategory.getId().getValue(), actualOutput.id());
+        verify(categoryGateway, times(1)).update(argThat(anUpdated -> "Filmes".equals(anUpdated.getName())));
+    }
+
+    @Test
+    public void givenAStaleExpectedUpdatedAt_whenCallsUpdateCategory_shouldThrowConflictWithoutUpdating() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var aCommand = UpdateCategoryCommand.with(
+                aCategory.getId().getValue(), "Filmes", "A categoria mais assistida", true, aCategory.getUpdatedAt().minusSeconds(1));
+
+        when(categoryGateway.findById(eq(aCategory.getId())))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(aCategory.clone())));
+
+        final var actualException = assertThrows(CompletionException.class, () -> useCase.execute(aCommand).join());
+
+        assertInstanceOf(ConflictException.class, actualException.getCause());
+        verify(categoryGateway, never()).update(any());
+    }
+}
@@ -0,0 +1,125 @@
+package com.admin.catalogo.application.category.category.update;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryField;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PatchCategoryUseCaseTest {
+
+    @InjectMocks
+    private DefaultPatchCategoryUseCase patchCategoryUseCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    public void givenOnlyActive_whenCallsPatchCategory_shouldUpdateOnlyActive() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+
+        final var aCommand = PatchCategoryCommand.with(
+                expectedId.getValue(), Set.of(CategoryField.ACTIVE), null, null, false, null);
+
+        when(categoryGateway.findByIdForUpdate(eq(expectedId)))
+                .thenReturn(Optional.of(aCategory.clone()));
+
+        when(categoryGateway.update(any(Category.class), any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var actualOutput = patchCategoryUseCase.execute(aCommand).get();
+
+        assertEquals(expectedId.getValue(), actualOutput.id());
+
+        Mockito.verify(categoryGateway, times(1)).update(
+                argThat(aPatchedCategory ->
+                        Objects.equals("Filmes", aPatchedCategory.getName())
+                                && Objects.equals("A categoria mais assistida", aPatchedCategory.getDescription())
+                                && !aPatchedCategory.isActive()
+                                && Objects.nonNull(aPatchedCategory.getDeletedAt())),
+                eq(Set.of(CategoryField.ACTIVE))
+        );
+        Mockito.verify(categoryGateway, never()).update(any(Category.class));
+    }
+
+    @Test
+    public void givenUnchangedValues_whenCallsPatchCategory_shouldNotWrite() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+
+        final var aCommand = PatchCategoryCommand.with(
+                expectedId.getValue(), Set.of(CategoryField.NAME, CategoryField.ACTIVE), "Filmes", null, true, null);
+
+        when(categoryGateway.findByIdForUpdate(eq(expectedId)))
+                .thenReturn(Optional.of(aCategory.clone()));
+
+        final var actualOutput = patchCategoryUseCase.execute(aCommand).get();
+
+        assertEquals(expectedId.getValue(), actualOutput.id());
+        Mockito.verify(categoryGateway, never()).update(any(Category.class), any());
+    }
+
+    @Test
+    public void givenAnInvalidName_whenCallsPatchCategory_thenShouldReturnNotification() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var aCommand = PatchCategoryCommand.with(
+                expectedId.getValue(), Set.of(CategoryField.NAME), null, null, null, null);
+
+        when(categoryGateway.findByIdForUpdate(eq(expectedId)))
+                .thenReturn(Optional.of(aCategory.clone()));
+
+        final var notification = patchCategoryUseCase.execute(aCommand).getLeft();
+
+        assertEquals(1, notification.getErrors().size());
+        assertEquals(expectedErrorMessage, notification.firstError().message());
+        Mockito.verify(categoryGateway, never()).update(any(Category.class), any());
+    }
+
+    @Test
+    public void givenNullActive_whenCallsPatchCategory_thenShouldReturnNotification() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+
+        final var aCommand = PatchCategoryCommand.with(
+                expectedId.getValue(), Set.of(CategoryField.ACTIVE), null, null, null, null);
+
+        when(categoryGateway.findByIdForUpdate(eq(expectedId)))
+                .thenReturn(Optional.of(aCategory.clone()));
+
+        final var notification = patchCategoryUseCase.execute(aCommand).getLeft();
+
+        assertEquals("'is_active' should not be null", notification.firstError().message());
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsPatchCategory_thenShouldThrowNotFoundException() {
+        final var expectedId = CategoryID.from("123");
+
+        final var aCommand = PatchCategoryCommand.with(
+                expectedId.getValue(), Set.of(CategoryField.ACTIVE), null, null, false, null);
+
+        when(categoryGateway.findByIdForUpdate(eq(expectedId))).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(NotFoundException.class, () -> patchCategoryUseCase.execute(aCommand));
+    }
+}
@@ -3,6 +3,7 @@ package com.admin.catalogo.application.category.category.update;
 import com.admin.catalogo.domain.category.Category;
 import com.admin.catalogo.domain.category.CategoryGateway;
 import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.exceptions.ConflictException;
 import com.admin.catalogo.domain.exceptions.DomainException;
 import com.admin.catalogo.domain.exceptions.NotFoundException;
 import org.junit.jupiter.api.Assertions;
@@ -13,6 +14,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -53,7 +55,7 @@ class UpdateCategoryUseCaseTest {
                 expectedIsActive
         );
 
-        when(categoryGateway.findById(eq(expectedId)))
+        when(categoryGateway.findByIdForUpdate(eq(expectedId)))
                 .thenReturn(Optional.of(aCategory.clone()));
 
         when(categoryGateway.update(any(Category.class)))
@@ -64,7 +66,7 @@ class UpdateCategoryUseCaseTest {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        Mockito.verify(categoryGateway, times(1)).findById(eq(expectedId));
+        Mockito.verify(categoryGateway, times(1)).findByIdForUpdate(eq(expectedId));
 
         Mockito.verify(categoryGateway, times(1)).update(
                 argThat(aUpdateCategory ->
@@ -89,7 +91,7 @@ class UpdateCategoryUseCaseTest {
         final var expectedErrorMessage = "'name' should not be null";
         final var expectedErrorCount = 1;
 
-        when(categoryGateway.findById(eq(expectedId)))
+        when(categoryGateway.findByIdForUpdate(eq(expectedId)))
                 .thenReturn(Optional.of(aCategory.clone()));
 
         final var aComand =
@@ -119,7 +121,7 @@ class UpdateCategoryUseCaseTest {
                 expectedIsActive
         );
 
-        when(categoryGateway.findById(eq(expectedId)))
+        when(categoryGateway.findByIdForUpdate(eq(expectedId)))
                 .thenReturn(Optional.of(aCategory.clone()));
 
         when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
@@ -159,7 +161,7 @@ class UpdateCategoryUseCaseTest {
                 expectedIsActive
         );
 
-        when(categoryGateway.findById(eq(expectedId)))
+        when(categoryGateway.findByIdForUpdate(eq(expectedId)))
                 .thenReturn(Optional.of(aCategory.clone()));
 
         when(categoryGateway.update(any()))
@@ -196,7 +198,7 @@ class UpdateCategoryUseCaseTest {
         final var expectedErrorMessage = "Category with ID %s was not found".formatted(expectedId.getValue());
         final var expectedErrorCount = 1;
 
-        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.empty());
+        when(categoryGateway.findByIdForUpdate(eq(expectedId))).thenReturn(Optional.empty());
 
         final var aComand =
                 UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
@@ -206,7 +208,56 @@ class UpdateCategoryUseCaseTest {
 
         assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        Mockito.verify(categoryGateway, times(1)).findById(eq(expectedId));
+        Mockito.verify(categoryGateway, times(1)).findByIdForUpdate(eq(expectedId));
         Mockito.verify(categoryGateway, times(0)).update(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenAStaleExpectedUpdatedAt_whenCallsUpdateCategory_thenShouldReturnConflictException() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var expectedId = aCategory.getId();
+        final var expectedErrorMessage = "Category with ID %s was modified by another request".formatted(expectedId.getValue());
+
+        when(categoryGateway.findByIdForUpdate(eq(expectedId)))
+                .thenReturn(Optional.of(aCategory.clone()));
+
+        final var aComand = UpdateCategoryCommand.with(
+                expectedId.getValue(),
+                "Filmes",
+                "A categoria mais assistida",
+                true,
+                aCategory.getUpdatedAt().minusSeconds(1)
+        );
+
+        final var actualException =
+                Assertions.assertThrows(ConflictException.class, () -> updateCategoryUseCase.execute(aComand));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        Mockito.verify(categoryGateway, times(0)).update(any());
+    }
+
+    @Test
+    public void givenAMatchingExpectedUpdatedAt_whenGatewayDetectsConcurrentUpdate_thenShouldReturnConflictException() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findByIdForUpdate(eq(expectedId)))
+                .thenReturn(Optional.of(aCategory.clone()));
+
+        when(categoryGateway.update(any()))
+                .thenThrow(ConflictException.with(Category.class, expectedId));
+
+        final var aComand = UpdateCategoryCommand.with(
+                expectedId.getValue(),
+                "Filmes",
+                "A categoria mais assistida",
+                true,
+                aCategory.getUpdatedAt().truncatedTo(ChronoUnit.MICROS)
+        );
+
+        Assertions.assertThrows(ConflictException.class, () -> updateCategoryUseCase.execute(aComand));
+
+        Mockito.verify(categoryGateway, times(1)).update(any());
+    }
+}
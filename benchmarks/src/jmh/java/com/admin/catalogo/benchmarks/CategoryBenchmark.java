@@ -0,0 +1,36 @@
+package com.admin.catalogo.benchmarks;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.exceptions.Notification;
+import com.admin.catalogo.domain.validation.Error;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryBenchmark {
+
+    private static final Error AN_ERROR = new Error("'name' should not be null");
+
+    @Param({"1", "10"})
+    public int errors;
+
+    @Benchmark
+    public Notification newCategoryAndValidate() {
+        final var notification = Notification.create();
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        aCategory.validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Notification notificationAccumulation() {
+        final var notification = Notification.create();
+        for (int i = 0; i < errors; i++) {
+            notification.append(AN_ERROR);
+        }
+        return notification;
+    }
+}
@@ -0,0 +1,46 @@
+package com.admin.catalogo.benchmarks;
+
+import com.admin.catalogo.domain.category.CategoryID;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Ids/s com 1 thread e com todas as CPUs disputando o gerador; o baseline é o antigo UUID.randomUUID()
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CategoryIDBenchmark {
+
+    private final CategoryID anId = CategoryID.unique();
+
+    @Benchmark
+    @Threads(1)
+    public CategoryID unique() {
+        return CategoryID.unique();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public CategoryID uniqueContended() {
+        return CategoryID.unique();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String randomUUID() {
+        return UUID.randomUUID().toString().toLowerCase();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String randomUUIDContended() {
+        return UUID.randomUUID().toString().toLowerCase();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int hashCodeLookup() {
+        return anId.hashCode();
+    }
+}
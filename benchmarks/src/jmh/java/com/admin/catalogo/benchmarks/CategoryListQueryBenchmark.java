@@ -0,0 +1,115 @@
+package com.admin.catalogo.benchmarks;
+
+import com.admin.catalogo.application.category.category.retrieve.list.CategoryListOutput;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.infrastructure.category.CategorySliceRepositoryImpl;
+import com.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
+import com.admin.catalogo.infrastructure.category.presenters.CategoryAPIPresenter;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+// Custo de uma página do GET /categories do banco até o CategoryListResponse: entidades gerenciadas (como era)
+// contra a projeção do CategorySliceRepositoryImpl. A alocação por página sai no gc.alloc.rate.norm:
+// ./gradlew :benchmarks:jmh -Pjmh.includes=CategoryListQueryBenchmark -Pjmh.profilers=gc
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategoryListQueryBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    @Param({"10", "100"})
+    public int perPage;
+
+    private EntityManagerFactory entityManagerFactory;
+
+    @Setup
+    public void setUp() {
+        final var dataSource = new DriverManagerDataSource("jdbc:h2:mem:category_list_benchmark;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+
+        final var factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.admin.catalogo.infrastructure.category.persistence");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+        factoryBean.afterPropertiesSet();
+
+        this.entityManagerFactory = factoryBean.getObject();
+
+        final var entityManager = this.entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        IntStream.range(0, ROWS)
+                .mapToObj(i -> Category.newCategory("Categoria " + i, "Descrição da categoria " + i, true))
+                .map(CategoryJPAEntity::from)
+                .forEach(entityManager::persist);
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.entityManagerFactory.close();
+    }
+
+    // Caminho anterior: entidades no persistence context -> Category -> CategoryListOutput -> CategoryListResponse
+    @Benchmark
+    public List<CategoryListResponse> entities() {
+        return readOnly(entityManager -> {
+            final var cb = entityManager.getCriteriaBuilder();
+            final var query = cb.createQuery(CategoryJPAEntity.class);
+            final var root = query.from(CategoryJPAEntity.class);
+            query.select(root).orderBy(cb.asc(root.get("name")), cb.asc(root.get("id")));
+
+            return entityManager.createQuery(query)
+                    .setMaxResults(perPage + 1)
+                    .getResultList()
+                    .stream()
+                    .map(entity -> entity.toAggregate())
+                    .map(CategoryListOutput::from)
+                    .map(CategoryAPIPresenter::present)
+                    .toList();
+        });
+    }
+
+    // Caminho atual: colunas -> Category -> CategoryListOutput -> CategoryListResponse
+    @Benchmark
+    public List<CategoryListResponse> projection() {
+        return readOnly(entityManager -> new CategorySliceRepositoryImpl(entityManager)
+                .findSlice(null, Sort.by("name").and(Sort.by("id")), 0, perPage + 1)
+                .stream()
+                .map(CategoryListOutput::from)
+                .map(CategoryAPIPresenter::present)
+                .toList());
+    }
+
+    // Mesmo estado de sessão que a transação readOnly do Spring deixa: default read-only e FlushMode.MANUAL
+    private <T> T readOnly(final Function<EntityManager, T> work) {
+        final var entityManager = this.entityManagerFactory.createEntityManager();
+        try {
+            final var session = entityManager.unwrap(Session.class);
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+
+            entityManager.getTransaction().begin();
+            final var result = work.apply(entityManager);
+            entityManager.getTransaction().commit();
+            return result;
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.admin.catalogo.benchmarks;
+
+import com.admin.catalogo.application.category.category.retrieve.get.CategoryOutput;
+import com.admin.catalogo.application.category.category.retrieve.list.CategoryListOutput;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.admin.catalogo.infrastructure.category.presenters.CategoryAPIPresenter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryPresenterBenchmark {
+
+    private CategoryOutput categoryOutput;
+    private CategoryListOutput categoryListOutput;
+
+    @Setup
+    public void setUp() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        this.categoryOutput = CategoryOutput.from(aCategory);
+        this.categoryListOutput = CategoryListOutput.from(aCategory);
+    }
+
+    @Benchmark
+    public CategoryResponse presentCategory() {
+        return CategoryAPIPresenter.present.apply(this.categoryOutput);
+    }
+
+    @Benchmark
+    public CategoryListResponse presentCategoryList() {
+        return CategoryAPIPresenter.present(this.categoryListOutput);
+    }
+}
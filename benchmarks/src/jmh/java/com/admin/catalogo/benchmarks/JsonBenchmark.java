@@ -0,0 +1,50 @@
+package com.admin.catalogo.benchmarks;
+
+import com.admin.catalogo.application.category.category.retrieve.get.CategoryOutput;
+import com.admin.catalogo.application.category.category.retrieve.list.CategoryListOutput;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.admin.catalogo.infrastructure.category.presenters.CategoryAPIPresenter;
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonBenchmark {
+
+    @Param({"10", "100"})
+    public int perPage;
+
+    private CategoryResponse categoryResponse;
+    private Pagination<CategoryListResponse> page;
+
+    @Setup
+    public void setUp() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        this.categoryResponse = CategoryAPIPresenter.present.apply(CategoryOutput.from(aCategory));
+
+        final var items = IntStream.range(0, perPage)
+                .mapToObj(i -> Category.newCategory("Categoria " + i, "Descrição " + i, true))
+                .map(CategoryListOutput::from)
+                .map(CategoryAPIPresenter::present)
+                .toList();
+
+        this.page = new Pagination<>(0, perPage, 1_000, items);
+    }
+
+    @Benchmark
+    public String writeCategoryResponse() {
+        return Json.writeValueAsString(this.categoryResponse);
+    }
+
+    @Benchmark
+    public String writePagination() {
+        return Json.writeValueAsString(this.page);
+    }
+}
@@ -0,0 +1,54 @@
+package com.admin.catalogo.benchmarks;
+
+import com.admin.catalogo.application.category.category.retrieve.list.CategoryListOutput;
+import com.admin.catalogo.domain.category.Category;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+// Compara parallelStream e stream variando o tamanho da página e o custo do mapper (cpuTokens = 0 é o
+// CategoryListOutput::from puro). Em benchmarks/results/PaginationMapBenchmark.json (1 CPU) o paralelo não ganha
+// em nenhum caso, então o Pagination.map é sequencial. Rodar em uma máquina com vários núcleos antes de reintroduzir.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PaginationMapBenchmark {
+
+    @Param({"10", "100", "1000", "4096", "10000"})
+    public int size;
+
+    @Param({"0", "100"})
+    public long cpuTokens;
+
+    private List<Category> items;
+    private Function<Category, CategoryListOutput> mapper;
+
+    @Setup
+    public void setUp() {
+        this.items = IntStream.range(0, size)
+                .mapToObj(i -> Category.newCategory("Categoria " + i, "Descrição " + i, true))
+                .toList();
+
+        final var tokens = this.cpuTokens;
+        this.mapper = tokens == 0
+                ? CategoryListOutput::from
+                : aCategory -> {
+                    Blackhole.consumeCPU(tokens);
+                    return CategoryListOutput.from(aCategory);
+                };
+    }
+
+    @Benchmark
+    public List<CategoryListOutput> parallelStream() {
+        return this.items.parallelStream().map(this.mapper).toList();
+    }
+
+    @Benchmark
+    public List<CategoryListOutput> sequentialStream() {
+        return this.items.stream().map(this.mapper).toList();
+    }
+}
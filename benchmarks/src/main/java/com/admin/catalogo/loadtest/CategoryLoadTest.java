@@ -0,0 +1,94 @@
+package com.admin.catalogo.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Carga em loop fechado contra uma instância rodando: N clientes concorrentes chamando o endpoint por D segundos.
+// Rodar uma vez com execution.mode=platform e outra com execution.mode=virtual (Java 21+) e comparar throughput e p99.
+// Última comparação, com o ambiente em que rodou: benchmarks/results/CategoryLoadTest.json
+//
+// ./gradlew :benchmarks:loadTest -Ptarget=http://localhost:8080/categories?perPage=10 -Pconcurrency=256 -Pduration=60
+public class CategoryLoadTest {
+
+    public static void main(final String[] args) throws Exception {
+        final var target = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/categories");
+        final var concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+        final var duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 60);
+        final var output = args.length > 3 ? Path.of(args[3]) : null;
+
+        final var client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .build();
+
+        final var request = HttpRequest.newBuilder(target).GET().timeout(Duration.ofSeconds(30)).build();
+
+        final var warmupEndsAt = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        final var endsAt = warmupEndsAt + duration.toNanos();
+        final var errors = new AtomicLong();
+
+        final ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        final var futures = new ArrayList<Future<long[]>>(concurrency);
+
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(clients.submit(() -> {
+                var latencies = new long[1 << 12];
+                var count = 0;
+
+                while (System.nanoTime() < endsAt) {
+                    final var startedAt = System.nanoTime();
+                    try {
+                        final var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() >= 400) errors.incrementAndGet();
+                    } catch (final IOException ex) {
+                        errors.incrementAndGet();
+                    }
+                    final var finishedAt = System.nanoTime();
+
+                    if (startedAt < warmupEndsAt) continue;
+                    if (count == latencies.length) latencies = Arrays.copyOf(latencies, count << 1);
+                    latencies[count++] = finishedAt - startedAt;
+                }
+
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        final List<long[]> perClient = new ArrayList<>(concurrency);
+        for (final var future : futures) perClient.add(future.get());
+        clients.shutdown();
+
+        final var all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        final var throughput = all.length / (double) duration.toSeconds();
+
+        final var report = """
+                {"target":"%s","concurrency":%d,"duration_seconds":%d,"requests":%d,"errors":%d,\
+                "throughput_rps":%.1f,"p50_ms":%.2f,"p99_ms":%.2f,"max_ms":%.2f}"""
+                .formatted(target, concurrency, duration.toSeconds(), all.length, errors.get(),
+                        throughput, percentile(all, 0.50), percentile(all, 0.99), percentile(all, 1.0));
+
+        System.out.println(report);
+        if (output != null) Files.writeString(output, report);
+
+        System.exit(0);
+    }
+
+    private static double percentile(final long[] sorted, final double p) {
+        if (sorted.length == 0) return 0;
+        final var index = Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
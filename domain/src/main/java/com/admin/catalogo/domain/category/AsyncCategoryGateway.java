@@ -0,0 +1,20 @@
+package com.admin.catalogo.domain.category;
+
+import com.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+// Variante não bloqueante do CategoryGateway: nenhuma thread fica presa esperando o banco
+public interface AsyncCategoryGateway {
+
+    CompletableFuture<Category> create(Category aCategory);
+
+    CompletableFuture<Void> deleteById(CategoryID categoryID);
+
+    CompletableFuture<Optional<Category>> findById(CategoryID categoryID);
+
+    CompletableFuture<Category> update(Category aCategory);
+
+    CompletableFuture<Pagination<Category>> findAll(CategorySearchQuery aQuery);
+}
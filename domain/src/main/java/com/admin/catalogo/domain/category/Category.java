@@ -4,7 +4,9 @@ import com.admin.catalogo.domain.AggregateRoot;
 import com.admin.catalogo.domain.validation.ValidationHandler;
 
 import java.time.Instant;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     private String name;
@@ -13,6 +15,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    // Versão lida do banco; o gateway só grava se ela ainda for a atual (lock otimista)
+    private long version;
 
     public Category(final CategoryID anId,
                     final String aName,
@@ -21,6 +25,17 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                     final Instant aCreationDate,
                     final Instant aUpdateDate,
                     final Instant aDeleteDate) {
+        this(anId, aName, aDescription, isActive, aCreationDate, aUpdateDate, aDeleteDate, 0);
+    }
+
+    public Category(final CategoryID anId,
+                    final String aName,
+                    final String aDescription,
+                    final boolean isActive,
+                    final Instant aCreationDate,
+                    final Instant aUpdateDate,
+                    final Instant aDeleteDate,
+                    final long aVersion) {
         super(anId);
         this.name = aName;
         this.description = aDescription;
@@ -28,6 +43,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.createdAt = Objects.requireNonNull(aCreationDate, "'createdAt' should not be null");
         this.updatedAt = Objects.requireNonNull(aUpdateDate, "'updatedAt' should not be null");
         this.deletedAt = aDeleteDate;
+        this.version = aVersion;
     }
 
     public static Category newCategory(final String aName,
@@ -67,11 +83,37 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                 aDeleteDate
         );
     }
+
+    public static Category with(
+            final CategoryID anId,
+            final String aName,
+            final String aDescription,
+            final boolean isActive,
+            final Instant aCreationDate,
+            final Instant aUpdateDate,
+            final Instant aDeleteDate,
+            final long aVersion) {
+
+        return new Category(
+                anId,
+                aName,
+                aDescription,
+                isActive,
+                aCreationDate,
+                aUpdateDate,
+                aDeleteDate,
+                aVersion
+        );
+    }
     @Override
     public void validate(final ValidationHandler handler) {
         new CategoryValidator(this, handler).validate();
     }
 
+    public void validate(final ValidationHandler handler, final Set<CategoryField> fields) {
+        new CategoryValidator(this, handler).validate(fields);
+    }
+
     public String getName() {
         return name;
     }
@@ -120,6 +162,14 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.deletedAt = deletedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Category deactivate() {
         if (Objects.isNull(getDeletedAt())) this.deletedAt = Instant.now();
 
@@ -150,6 +200,33 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         return this;
     }
 
+    // Aplica só os campos informados e retorna os que de fato mudaram; sem mudança o updatedAt fica igual
+    public Set<CategoryField> patch(final Set<CategoryField> fields,
+                                    final String aName,
+                                    final String aDescription,
+                                    final boolean isActive) {
+        final var changed = EnumSet.noneOf(CategoryField.class);
+
+        if (fields.contains(CategoryField.NAME) && !Objects.equals(this.name, aName)) {
+            this.name = aName;
+            changed.add(CategoryField.NAME);
+        }
+
+        if (fields.contains(CategoryField.DESCRIPTION) && !Objects.equals(this.description, aDescription)) {
+            this.description = aDescription;
+            changed.add(CategoryField.DESCRIPTION);
+        }
+
+        if (fields.contains(CategoryField.ACTIVE) && this.active != isActive) {
+            if (isActive) activate(); else deactivate();
+            changed.add(CategoryField.ACTIVE);
+        }
+
+        if (!changed.isEmpty()) this.updatedAt = Instant.now();
+
+        return changed;
+    }
+
     @Override
     public Category clone() {
         try {
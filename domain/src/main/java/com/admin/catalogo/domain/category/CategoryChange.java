@@ -0,0 +1,29 @@
+package com.admin.catalogo.domain.category;
+
+import java.time.Instant;
+import java.util.Objects;
+
+// Uma entrada do feed de alterações: a categoria como está agora ou, se foi removida, só o id e o momento da remoção
+public record CategoryChange(
+        CategoryID id,
+        Instant changedAt,
+        Category category
+) {
+
+    public CategoryChange {
+        Objects.requireNonNull(id, "'id' should not be null");
+        Objects.requireNonNull(changedAt, "'changedAt' should not be null");
+    }
+
+    public static CategoryChange changed(final Category aCategory) {
+        return new CategoryChange(aCategory.getId(), aCategory.getUpdatedAt(), aCategory);
+    }
+
+    public static CategoryChange deleted(final CategoryID anId, final Instant deletedAt) {
+        return new CategoryChange(anId, deletedAt, null);
+    }
+
+    public boolean isDeleted() {
+        return category == null;
+    }
+}
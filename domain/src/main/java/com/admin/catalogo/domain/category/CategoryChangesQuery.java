@@ -0,0 +1,12 @@
+package com.admin.catalogo.domain.category;
+
+// since é o token devolvido pela chamada anterior (vazio na primeira sincronização)
+public record CategoryChangesQuery(
+        String since,
+        int limit
+) {
+
+    public boolean hasSince() {
+        return since != null && !since.isBlank();
+    }
+}
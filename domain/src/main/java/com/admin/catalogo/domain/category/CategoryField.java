@@ -0,0 +1,8 @@
+package com.admin.catalogo.domain.category;
+
+// Campos que um PATCH pode alterar individualmente. ACTIVE também mexe no deletedAt.
+public enum CategoryField {
+    NAME,
+    DESCRIPTION,
+    ACTIVE
+}
@@ -2,17 +2,31 @@ package com.admin.catalogo.domain.category;
 
 import com.admin.catalogo.domain.pagination.Pagination;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CategoryGateway {
 
     Category create(Category aCategory);
 
+    List<Category> createAll(List<Category> aCategories);
+
     void deleteById(CategoryID categoryID);
 
     Optional<Category> findById(CategoryID categoryID);
 
+    // Leitura que antecede um update: sempre da fonte (sem cache), pois a versão lida é a que o UPDATE condicional confere
+    Optional<Category> findByIdForUpdate(CategoryID categoryID);
+
+    Optional<Instant> findUpdatedAtById(CategoryID categoryID);
+
     Category update(Category aCategory);
 
+    Category update(Category aCategory, Set<CategoryField> changedFields);
+
     Pagination<Category> findAll(CategorySearchQuery aQuery);
+
+    Pagination<CategoryChange> findChanges(CategoryChangesQuery aQuery);
 }
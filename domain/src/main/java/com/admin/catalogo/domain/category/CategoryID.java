@@ -4,17 +4,33 @@ import com.admin.catalogo.domain.Identifier;
 
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class CategoryID extends Identifier {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
     private final String value;
+    private final int hash;
 
     private CategoryID(String value) {
         Objects.requireNonNull(value);
         this.value = value;
+        this.hash = value.hashCode();
     }
 
+    // UUIDv7 (RFC 9562): 48 bits de timestamp em ms no início, então ids novos entram no fim do índice
+    // clusterizado. A entropia vem do ThreadLocalRandom, sem a disputa do SecureRandom do UUID.randomUUID()
     public static CategoryID unique() {
-        return new CategoryID(UUID.randomUUID().toString().toLowerCase());
+        final var random = ThreadLocalRandom.current();
+
+        final var mostSigBits = (System.currentTimeMillis() << 16)
+                | 0x7000L
+                | (random.nextLong() & 0x0FFFL);
+
+        final var leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL)
+                | 0x8000000000000000L;
+
+        return new CategoryID(format(mostSigBits, leastSigBits));
     }
 
     public static CategoryID from(final String anId) {
@@ -22,7 +38,29 @@ public class CategoryID extends Identifier {
     }
 
     public static CategoryID from(final UUID anId) {
-        return new CategoryID(anId.toString().toLowerCase());
+        return new CategoryID(format(anId.getMostSignificantBits(), anId.getLeastSignificantBits()));
+    }
+
+    // Forma canônica 8-4-4-4-12 em minúsculas, escrita direto num char[] sem passar por UUID.toString()
+    public static String format(final long mostSigBits, final long leastSigBits) {
+        final var chars = new char[36];
+        hex(chars, 0, mostSigBits >>> 32, 8);
+        chars[8] = '-';
+        hex(chars, 9, mostSigBits >>> 16, 4);
+        chars[13] = '-';
+        hex(chars, 14, mostSigBits, 4);
+        chars[18] = '-';
+        hex(chars, 19, leastSigBits >>> 48, 4);
+        chars[23] = '-';
+        hex(chars, 24, leastSigBits, 12);
+        return new String(chars);
+    }
+
+    private static void hex(final char[] chars, final int offset, long bits, final int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = HEX[(int) (bits & 0xF)];
+            bits >>>= 4;
+        }
     }
 
     @Override
@@ -35,7 +73,7 @@ public class CategoryID extends Identifier {
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return hash;
     }
 
     @Override
@@ -1,10 +1,29 @@
 package com.admin.catalogo.domain.category;
 
+import com.admin.catalogo.domain.pagination.TotalMode;
+
 public record CategorySearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor,
+        TotalMode total
 ) {
+    public CategorySearchQuery {
+        total = total == null ? TotalMode.EXACT : total;
+    }
+
+    public CategorySearchQuery(final int page,
+                               final int perPage,
+                               final String terms,
+                               final String sort,
+                               final String direction) {
+        this(page, perPage, terms, sort, direction, null, TotalMode.EXACT);
+    }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
 }
@@ -5,6 +5,7 @@ import com.admin.catalogo.domain.validation.ValidationHandler;
 import com.admin.catalogo.domain.validation.Validator;
 
 import java.util.Objects;
+import java.util.Set;
 
 public class CategoryValidator extends Validator {
 
@@ -24,6 +25,12 @@ public class CategoryValidator extends Validator {
         checkDescriptionConstraints();
     }
 
+    // Validação parcial do PATCH: só os campos alterados
+    public void validate(final Set<CategoryField> fields) {
+        if (fields.contains(CategoryField.NAME)) checkNameConstraints();
+        if (fields.contains(CategoryField.DESCRIPTION)) checkDescriptionConstraints();
+    }
+
     private void checkDescriptionConstraints() {
         final var description = this.category.getDescription();
 
@@ -7,11 +7,22 @@ public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        String nextCursor,
+        boolean hasMore
 ) {
-    public <R> Pagination<R> map(Function<T, R> mapper) {
-        List<R> aNewList = this.items.parallelStream().map(mapper).toList();
+    public static final long UNKNOWN_TOTAL = -1;
 
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+    public Pagination(final int currentPage,
+                      final int perPage,
+                      final long total,
+                      final List<T> items) {
+        this(currentPage, perPage, total, items, null, (long) (currentPage + 1) * perPage < total);
+    }
+
+    // Sequencial: nos tamanhos de página da API o parallelStream só custa mais (ver PaginationMapBenchmark)
+    public <R> Pagination<R> map(final Function<T, R> mapper) {
+        final List<R> aNewList = this.items.stream().map(mapper).toList();
+        return new Pagination<>(currentPage(), perPage(), total(), aNewList, nextCursor(), hasMore());
     }
 }
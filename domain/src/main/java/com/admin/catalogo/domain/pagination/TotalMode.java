@@ -0,0 +1,21 @@
+package com.admin.catalogo.domain.pagination;
+
+import com.admin.catalogo.domain.exceptions.DomainException;
+import com.admin.catalogo.domain.validation.Error;
+
+import java.util.Arrays;
+
+public enum TotalMode {
+    NONE,
+    ESTIMATE,
+    EXACT;
+
+    public static TotalMode from(final String aMode) {
+        if (aMode == null || aMode.isBlank()) return EXACT;
+
+        return Arrays.stream(values())
+                .filter(mode -> mode.name().equalsIgnoreCase(aMode.trim()))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error("'total' must be one of none, estimate or exact")));
+    }
+}
@@ -0,0 +1,28 @@
+package com.admin.catalogo.domain.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+class CategoryIDTest {
+
+    @Test
+    void givenNoParams_whenCallsUnique_shouldGenerateCanonicalUUIDv7() {
+        final var actualId = CategoryID.unique().getValue();
+        final var actualUUID = UUID.fromString(actualId);
+
+        Assertions.assertEquals(actualUUID.toString(), actualId);
+        Assertions.assertEquals(7, actualUUID.version());
+        Assertions.assertEquals(2, actualUUID.variant());
+    }
+
+    @Test
+    void givenIdsGeneratedInDifferentMilliseconds_whenCompared_shouldFollowCreationOrder() throws InterruptedException {
+        final var first = CategoryID.unique().getValue();
+        Thread.sleep(2);
+        final var second = CategoryID.unique().getValue();
+
+        Assertions.assertTrue(first.compareTo(second) < 0);
+    }
+}
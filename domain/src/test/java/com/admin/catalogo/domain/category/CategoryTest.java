@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestTemplate;
 
 import java.time.Instant;
+import java.util.Set;
 
 class CategoryTest {
     @Test
@@ -328,4 +329,45 @@ class CategoryTest {
         Assertions.assertTrue(actualCategory.getUpdatedAt().isAfter(updatedAt));
         Assertions.assertNull(aCategory.getDeletedAt());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenAValidCategory_whenCallPatchWithOnlyActive_thenChangeOnlyActiveAndDeletedAt() {
+        final var expectedName = "Filmes";
+        final var expectedDescription = "A Categoria mais assistida";
+
+        final var aCategory = Category.newCategory(expectedName, expectedDescription, true);
+        final Instant updatedAt = aCategory.getUpdatedAt();
+
+        final var actualChanged = aCategory.patch(Set.of(CategoryField.ACTIVE), null, null, false);
+
+        Assertions.assertEquals(Set.of(CategoryField.ACTIVE), actualChanged);
+        Assertions.assertEquals(expectedName, aCategory.getName());
+        Assertions.assertEquals(expectedDescription, aCategory.getDescription());
+        Assertions.assertFalse(aCategory.isActive());
+        Assertions.assertNotNull(aCategory.getDeletedAt());
+        Assertions.assertTrue(aCategory.getUpdatedAt().isAfter(updatedAt));
+    }
+
+    @Test
+    public void givenAValidCategory_whenCallPatchWithSameValues_thenReturnNoChanges() {
+        final var aCategory = Category.newCategory("Filmes", "A Categoria mais assistida", true);
+        final Instant updatedAt = aCategory.getUpdatedAt();
+
+        final var actualChanged = aCategory.patch(
+                Set.of(CategoryField.NAME, CategoryField.ACTIVE), "Filmes", null, true);
+
+        Assertions.assertTrue(actualChanged.isEmpty());
+        Assertions.assertEquals(updatedAt, aCategory.getUpdatedAt());
+    }
+
+    @Test
+    public void givenAPatchedCategory_whenValidateChangedFields_thenIgnoreUntouchedInvalidFields() {
+        // description nula é inválida na validação completa, mas não foi alterada pelo patch
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        final var actualChanged = aCategory.patch(Set.of(CategoryField.NAME), "Series", null, true);
+
+        Assertions.assertDoesNotThrow(() -> aCategory.validate(new ThrowsValidationHandler(), actualChanged));
+        Assertions.assertThrows(DomainException.class, () -> aCategory.validate(new ThrowsValidationHandler()));
+    }
+}
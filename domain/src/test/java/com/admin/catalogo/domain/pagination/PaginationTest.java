@@ -0,0 +1,48 @@
+package com.admin.catalogo.domain.pagination;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+class PaginationTest {
+
+    @Test
+    void givenASmallPage_whenCallsMap_thenMapsOnCallerThread() {
+        final var caller = Thread.currentThread();
+        final var threads = ConcurrentHashMap.<Thread>newKeySet();
+
+        final var aPage = new Pagination<>(1, 3, 10, List.of(1, 2, 3), "cursor", true);
+
+        final var actualPage = aPage.map(item -> {
+            threads.add(Thread.currentThread());
+            return "item " + item;
+        });
+
+        Assertions.assertEquals(List.of("item 1", "item 2", "item 3"), actualPage.items());
+        Assertions.assertEquals(1, actualPage.currentPage());
+        Assertions.assertEquals(3, actualPage.perPage());
+        Assertions.assertEquals(10, actualPage.total());
+        Assertions.assertEquals("cursor", actualPage.nextCursor());
+        Assertions.assertTrue(actualPage.hasMore());
+        Assertions.assertEquals(Set.of(caller), threads);
+    }
+
+    @Test
+    void givenALargePage_whenCallsMap_thenMapsOnCallerThreadKeepingOrder() {
+        final var caller = Thread.currentThread();
+        final var items = IntStream.range(0, 10_000).boxed().toList();
+        final var aPage = new Pagination<>(0, 10_000, 10_000, items);
+
+        final var actualPage = aPage.map(item -> {
+            Assertions.assertSame(caller, Thread.currentThread());
+            return item * 2;
+        });
+
+        Assertions.assertEquals(items.stream().map(item -> item * 2).toList(), actualPage.items());
+        Assertions.assertEquals(10_000, actualPage.total());
+    }
+}
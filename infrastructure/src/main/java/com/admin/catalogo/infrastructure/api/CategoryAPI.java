@@ -1,23 +1,34 @@
 package com.admin.catalogo.infrastructure.api;
 
 import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.infrastructure.category.models.CategoryChangeResponse;
 import com.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
 
 @Tag(name = "Categories")
 @RequestMapping("/categories")
 public interface CategoryAPI {
 
+    String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     @PostMapping(
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE
@@ -31,47 +42,138 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+            value = "batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create categories in batch", description = "Each item is validated on its own and the response has one result per item, in the same order, with the created id or the validation errors")
+    @ApiResponses({
+             @ApiResponse(responseCode = "200", description = "Batch processed, check each item result")
+            ,@ApiResponse(responseCode = "422", description = "The batch exceeds the maximum size")
+            ,@ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<?> createCategories(@RequestBody List<CreateCategoryRequest> input);
+
+    @PostMapping(
+            value = "batch",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create categories in batch from a NDJSON stream")
+    @ApiResponses({
+             @ApiResponse(responseCode = "200", description = "Batch processed, check each item result")
+            ,@ApiResponse(responseCode = "422", description = "The batch exceeds the maximum size")
+            ,@ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<?> createCategoriesStream(InputStream input);
+
     @GetMapping
-    @Operation(summary = "List all categories paginated")
+    @Operation(summary = "List all categories paginated", description = "When 'cursor' is informed, the page is fetched by keyset from the previous page's 'next_cursor' and 'page' is ignored. 'total' accepts none (no COUNT, total = -1), estimate (cached COUNT) or exact. 'sort=relevance' orders a search by full-text rank: dir=asc lists the best match first and dir=desc reverses it. The page has an ETag and If-None-Match answers 304 when nothing changed")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Category created successfully")
+            ,@ApiResponse(responseCode = "304", description = "The page did not change since the informed ETag")
             ,@ApiResponse(responseCode = "422", description = "A invalid parameter was received")
             ,@ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    Pagination<CategoryListResponse> listCategories(
+    ResponseEntity<Pagination<CategoryListResponse>> listCategories(
              @RequestParam(name = "search", required = false, defaultValue = "") final String search
             ,@RequestParam(name = "page", required = false, defaultValue = "0") final Integer page
             ,@RequestParam(name = "perPage", required = false, defaultValue = "10") final Integer perPage
             ,@RequestParam(name = "sort", required = false, defaultValue = "name") final String sort
             ,@RequestParam(name = "dir", required = false, defaultValue = "asc") final String dir
+            ,@RequestParam(name = "cursor", required = false) final String cursor
+            ,@RequestParam(name = "total", required = false, defaultValue = "exact") final String total
+    );
+
+    @GetMapping(
+            value = "export",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"}
+    )
+    @Operation(summary = "Export all categories", description = "Streams every category as NDJSON (one JSON object per line) or CSV with a header line")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Categories exported successfully")
+            ,@ApiResponse(responseCode = "422", description = "A invalid format was received")
+            ,@ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> exportCategories(
+            @RequestParam(name = "format", required = false, defaultValue = "ndjson") final String format
+    );
+
+    @GetMapping(
+            value = "stream",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    @Operation(summary = "Stream category changes", description = "Server-Sent Events with one event per creation, update or removal (event name created, updated or deleted, id = sequence). Reconnecting to any instance with Last-Event-ID replays the missed events (a client that falls too far behind is disconnected and reconnects this way); if they are no longer available a 'reset' event is sent and the client should resync through GET /categories/changes")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stream opened successfully")
+            ,@ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    SseEmitter streamCategories(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId);
+
+    @GetMapping(
+            value = "changes",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "List category changes since a token", description = "Returns creations, updates and removals (as tombstones with deleted=true) ordered by change time. Without 'since' it starts from the beginning; send the returned 'next_cursor' as 'since' to get only what changed afterwards. 'has_more' tells whether another call is needed right away. Changes show up only after changes.categories.settle-time (30s by default): a write whose transaction plus the clock skew between instances takes longer than that can be missed")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Changes listed successfully")
+            ,@ApiResponse(responseCode = "422", description = "A invalid 'since' or 'limit' was received")
+            ,@ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<Pagination<CategoryChangeResponse>> listCategoryChanges(
+             @RequestParam(name = "since", required = false) final String since
+            ,@RequestParam(name = "limit", required = false, defaultValue = "100") final Integer limit
     );
 
     @GetMapping(
             value = "{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    @Operation(summary = "Get a category by it's identifier")
+    @Operation(summary = "Get a category by it's identifier", description = "Responds with ETag and Last-Modified. If-None-Match or If-Modified-Since answers 304 without loading the category")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Created retrieved successfully")
+            ,@ApiResponse(responseCode = "304", description = "Category was not modified")
             ,@ApiResponse(responseCode = "404", description = "Category was not found")
             ,@ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    CategoryResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<CategoryResponse> getById(@PathVariable(name = "id") String id, WebRequest request);
 
     @PutMapping(
             value = "{id}",
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    @Operation(summary = "Update a category by it's identifier")
+    @Operation(summary = "Update a category by it's identifier", description = "With If-Match (the ETag from GET) the update only happens if the category was not changed since then")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Category updated successfully")
             ,@ApiResponse(responseCode = "404", description = "Category was not found")
+            ,@ApiResponse(responseCode = "409", description = "Category was updated concurrently")
+            ,@ApiResponse(responseCode = "412", description = "If-Match does not match the current ETag")
             ,@ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
     ResponseEntity<?> updateById(@PathVariable(name = "id") String id,
+                                 @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                  @RequestBody UpdateCategoryRequest anInput);
 
+    @PatchMapping(
+            value = "{id}",
+            consumes = { MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE },
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Partially update a category by it's identifier", description = "JSON Merge Patch: only the properties present in the body are changed")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Category updated successfully")
+            ,@ApiResponse(responseCode = "404", description = "Category was not found")
+            ,@ApiResponse(responseCode = "409", description = "Category was updated concurrently")
+            ,@ApiResponse(responseCode = "412", description = "If-Match does not match the current ETag")
+            ,@ApiResponse(responseCode = "422", description = "A validation error was thrown")
+            ,@ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<?> patchById(@PathVariable(name = "id") String id,
+                                @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                @RequestBody JsonNode anInput);
+
     @DeleteMapping(
             value = "{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
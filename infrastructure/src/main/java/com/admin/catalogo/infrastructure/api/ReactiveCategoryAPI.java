@@ -0,0 +1,113 @@
+package com.admin.catalogo.infrastructure.api;
+
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import com.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+// Mesmos contratos do CategoryAPI, atendidos pelo gateway R2DBC (profile "reactive")
+@Tag(name = "Categories (reactive)")
+@RequestMapping("/reactive/categories")
+public interface ReactiveCategoryAPI {
+
+    @PostMapping(
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create a new category")
+    @ApiResponses({
+             @ApiResponse(responseCode = "201", description = "Created successfully")
+            ,@ApiResponse(responseCode = "422", description = "A validation error was thrown")
+            ,@ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    Mono<ResponseEntity<?>> createCategory(@RequestBody CreateCategoryRequest input);
+
+    @GetMapping
+    @Operation(summary = "List all categories paginated", description = "'cursor' is not supported and 'sort=relevance' falls back to name")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Listed successfully")
+            ,@ApiResponse(responseCode = "422", description = "A invalid parameter was received")
+            ,@ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    Mono<Pagination<CategoryListResponse>> listCategories(
+             @RequestParam(name = "search", required = false, defaultValue = "") final String search
+            ,@RequestParam(name = "page", required = false, defaultValue = "0") final Integer page
+            ,@RequestParam(name = "perPage", required = false, defaultValue = "10") final Integer perPage
+            ,@RequestParam(name = "sort", required = false, defaultValue = "name") final String sort
+            ,@RequestParam(name = "dir", required = false, defaultValue = "asc") final String dir
+            ,@RequestParam(name = "total", required = false, defaultValue = "exact") final String total
+    );
+
+    @GetMapping(
+            value = "{id}",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get a category by it's identifier", description = "Responds with ETag and Last-Modified. If-None-Match or If-Modified-Since answers 304")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Category retrieved successfully")
+            ,@ApiResponse(responseCode = "304", description = "The category did not change since the informed ETag or date")
+            ,@ApiResponse(responseCode = "404", description = "Category was not found")
+            ,@ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    Mono<ResponseEntity<CategoryResponse>> getById(@PathVariable(name = "id") String id);
+
+    @PutMapping(
+            value = "{id}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Update a category by it's identifier", description = "With If-Match (the ETag from GET) the update only happens if the category was not changed since then")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Category updated successfully")
+            ,@ApiResponse(responseCode = "404", description = "Category was not found")
+            ,@ApiResponse(responseCode = "409", description = "Category was updated concurrently")
+            ,@ApiResponse(responseCode = "412", description = "If-Match does not match the current ETag")
+            ,@ApiResponse(responseCode = "422", description = "A validation error was thrown")
+            ,@ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    Mono<ResponseEntity<?>> updateById(@PathVariable(name = "id") String id,
+                                       @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                       @RequestBody UpdateCategoryRequest anInput);
+
+    @PatchMapping(
+            value = "{id}",
+            consumes = { CategoryAPI.MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE },
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Partially update a category by it's identifier", description = "JSON Merge Patch: only the properties present in the body are changed")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Category updated successfully")
+            ,@ApiResponse(responseCode = "404", description = "Category was not found")
+            ,@ApiResponse(responseCode = "409", description = "Category was updated concurrently")
+            ,@ApiResponse(responseCode = "412", description = "If-Match does not match the current ETag")
+            ,@ApiResponse(responseCode = "422", description = "A validation error was thrown")
+            ,@ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    Mono<ResponseEntity<?>> patchById(@PathVariable(name = "id") String id,
+                                      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                      @RequestBody JsonNode anInput);
+
+    @DeleteMapping(
+            value = "{id}",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Delete a category by it's identifier")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Category deleted successfully")
+            ,@ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    Mono<Void> deleteById(@PathVariable(name = "id") String id);
+}
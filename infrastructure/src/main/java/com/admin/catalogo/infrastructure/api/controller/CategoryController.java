@@ -1,27 +1,57 @@
 package com.admin.catalogo.infrastructure.api.controller;
 
+import com.admin.catalogo.application.category.category.create.BatchCreateCategoryUseCase;
 import com.admin.catalogo.application.category.category.create.CreateCategoryCommand;
 import com.admin.catalogo.application.category.category.create.CreateCategoryOutput;
 import com.admin.catalogo.application.category.category.create.CreateCategoryUseCase;
+import com.admin.catalogo.application.category.category.create.DefaultBatchCreateCategoryUseCase;
 import com.admin.catalogo.application.category.category.delete.DeleteCategoryUseCase;
+import com.admin.catalogo.application.category.category.retrieve.changes.ListCategoryChangesUseCase;
 import com.admin.catalogo.application.category.category.retrieve.get.GetCategoryByIdUseCase;
+import com.admin.catalogo.application.category.category.retrieve.get.GetCategoryVersionUseCase;
 import com.admin.catalogo.application.category.category.retrieve.list.ListCategoriesUseCase;
+import com.admin.catalogo.application.category.category.update.PatchCategoryCommand;
+import com.admin.catalogo.application.category.category.update.PatchCategoryUseCase;
 import com.admin.catalogo.application.category.category.update.UpdateCategoryCommand;
 import com.admin.catalogo.application.category.category.update.UpdateCategoryOutput;
 import com.admin.catalogo.application.category.category.update.UpdateCategoryUseCase;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.admin.catalogo.domain.category.CategoryID;
 import com.admin.catalogo.domain.category.CategorySearchQuery;
+import com.admin.catalogo.domain.exceptions.ConflictException;
+import com.admin.catalogo.domain.exceptions.DomainException;
 import com.admin.catalogo.domain.exceptions.Notification;
 import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.TotalMode;
+import com.admin.catalogo.domain.validation.Error;
 import com.admin.catalogo.infrastructure.api.CategoryAPI;
+import com.admin.catalogo.infrastructure.category.export.CategoryExportFormat;
+import com.admin.catalogo.infrastructure.category.export.CategoryExporter;
+import com.admin.catalogo.infrastructure.category.models.CategoryChangeResponse;
 import com.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import com.admin.catalogo.infrastructure.category.models.PatchCategoryRequest;
 import com.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import com.admin.catalogo.infrastructure.category.presenters.CategoryAPIPresenter;
+import com.admin.catalogo.infrastructure.category.presenters.CategoryETags;
+import com.admin.catalogo.infrastructure.category.stream.CategoryEventStream;
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
@@ -31,22 +61,40 @@ public class CategoryController implements CategoryAPI {
 
     final private CreateCategoryUseCase createCategoryUseCase;
     final private GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final GetCategoryVersionUseCase getCategoryVersionUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
+    private final PatchCategoryUseCase patchCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final ListCategoryChangesUseCase listCategoryChangesUseCase;
+    private final BatchCreateCategoryUseCase batchCreateCategoryUseCase;
+    private final CategoryExporter categoryExporter;
+    private final CategoryEventStream categoryEventStream;
 
     public CategoryController(final CreateCategoryUseCase createCategoryUseCase,
                               final GetCategoryByIdUseCase getCategoryByIdUseCase,
+                              final GetCategoryVersionUseCase getCategoryVersionUseCase,
                               final UpdateCategoryUseCase updateCategoryUseCase,
+                              final PatchCategoryUseCase patchCategoryUseCase,
                               final DeleteCategoryUseCase deleteCategoryUseCase,
-                              final ListCategoriesUseCase listCategoriesUseCase
+                              final ListCategoriesUseCase listCategoriesUseCase,
+                              final ListCategoryChangesUseCase listCategoryChangesUseCase,
+                              final BatchCreateCategoryUseCase batchCreateCategoryUseCase,
+                              final CategoryExporter categoryExporter,
+                              final CategoryEventStream categoryEventStream
     ) {
 
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.getCategoryVersionUseCase = Objects.requireNonNull(getCategoryVersionUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
+        this.patchCategoryUseCase = Objects.requireNonNull(patchCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.listCategoryChangesUseCase = Objects.requireNonNull(listCategoryChangesUseCase);
+        this.batchCreateCategoryUseCase = Objects.requireNonNull(batchCreateCategoryUseCase);
+        this.categoryExporter = Objects.requireNonNull(categoryExporter);
+        this.categoryEventStream = Objects.requireNonNull(categoryEventStream);
     }
 
     @Override
@@ -71,20 +119,100 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public Pagination<CategoryListResponse> listCategories(String search, Integer page, Integer perPage, String sort, String dir) {
-        return this.listCategoriesUseCase.execute(new CategorySearchQuery(page, perPage, search, sort, dir))
+    public ResponseEntity<?> createCategories(List<CreateCategoryRequest> input) {
+        if (input.stream().anyMatch(Objects::isNull)) {
+            throw DomainException.with(new Error("'categories' must not contain null items"));
+        }
+
+        final var someCommands = input.stream()
+                .map(CategoryController::toCommand)
+                .toList();
+
+        return ResponseEntity.ok(this.batchCreateCategoryUseCase.execute(someCommands));
+    }
+
+    @Override
+    public ResponseEntity<?> createCategoriesStream(InputStream input) {
+        //Lê no máximo um item além do limite: o use case já rejeita o lote sem o resto do corpo ser lido
+        final var maxItems = DefaultBatchCreateCategoryUseCase.MAX_BATCH_SIZE + 1;
+        return createCategories(Json.readValues(input, CreateCategoryRequest.class, maxItems));
+    }
+
+    private static CreateCategoryCommand toCommand(final CreateCategoryRequest input) {
+        final var isActive = Optional.ofNullable(input.active()).orElse(true);
+        return CreateCategoryCommand.with(input.name(), input.description(), isActive);
+    }
+
+    @Override
+    public ResponseEntity<Pagination<CategoryListResponse>> listCategories(String search, Integer page, Integer perPage, String sort, String dir, String cursor, String total) {
+        final var aQuery = new CategorySearchQuery(page, perPage, search, sort, dir, cursor, TotalMode.from(total));
+
+        final var aPage = this.listCategoriesUseCase.execute(aQuery)
+                .map(CategoryAPIPresenter::present);
+
+        // Com If-None-Match igual ao ETag o Spring responde 304 sem serializar a página
+        return ResponseEntity.ok()
+                .eTag(CategoryETags.of(aPage))
+                .body(aPage);
+    }
+
+    @Override
+    public SseEmitter streamCategories(String lastEventId) {
+        return this.categoryEventStream.subscribe(lastEventId);
+    }
+
+    @Override
+    public ResponseEntity<Pagination<CategoryChangeResponse>> listCategoryChanges(String since, Integer limit) {
+        final var aPage = this.listCategoryChangesUseCase.execute(new CategoryChangesQuery(since, limit))
                 .map(CategoryAPIPresenter::present);
+
+        return ResponseEntity.ok(aPage);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCategories(String format) {
+        final var aFormat = CategoryExportFormat.from(format);
+
+        final var contentDisposition = ContentDisposition.attachment()
+                .filename(aFormat.fileName())
+                .build();
+
+        final StreamingResponseBody body = out -> this.categoryExporter.export(aFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(aFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(body);
     }
 
     @Override
-    public CategoryResponse getById(String id) {
-        return CategoryAPIPresenter.present.apply(this.getCategoryByIdUseCase.execute(id));
+    public ResponseEntity<CategoryResponse> getById(String id, WebRequest request) {
+        // Com If-None-Match/If-Modified-Since valida antes só com o updatedAt, sem carregar a categoria.
+        // Não usa o request.checkNotModified: ele já escreveria ETag/Last-Modified desta leitura na resposta 200
+        final var conditions = new HttpHeaders();
+        Optional.ofNullable(request.getHeader(HttpHeaders.IF_NONE_MATCH)).ifPresent(value -> conditions.set(HttpHeaders.IF_NONE_MATCH, value));
+        Optional.ofNullable(request.getHeader(HttpHeaders.IF_MODIFIED_SINCE)).ifPresent(value -> conditions.set(HttpHeaders.IF_MODIFIED_SINCE, value));
+
+        if (!conditions.isEmpty()) {
+            final var updatedAt = this.getCategoryVersionUseCase.execute(id);
+            final var anETag = CategoryETags.of(id, updatedAt);
+            if (CategoryETags.notModified(conditions, anETag, updatedAt)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(anETag).lastModified(updatedAt).build();
+            }
+        }
+
+        // ETag e Last-Modified da mesma leitura que gera o corpo
+        final var aCategory = CategoryAPIPresenter.present.apply(this.getCategoryByIdUseCase.execute(id));
+        return ResponseEntity.ok()
+                .eTag(CategoryETags.of(aCategory.id(), aCategory.updatedAt()))
+                .lastModified(aCategory.updatedAt())
+                .body(aCategory);
     }
 
     @Override
-    public ResponseEntity<?> updateById(String id, UpdateCategoryRequest anInput) {
+    public ResponseEntity<?> updateById(String id, String ifMatch, UpdateCategoryRequest anInput) {
         final var anCommand = UpdateCategoryCommand
-                .with(id, anInput.name(), anInput.description(), anInput.active());
+                .with(id, anInput.name(), anInput.description(), anInput.active(), expectedUpdatedAt(id, ifMatch));
 
         final Function<Notification, ResponseEntity<?>> onError = notification ->
                 ResponseEntity.unprocessableEntity().body(notification);
@@ -95,6 +223,28 @@ public class CategoryController implements CategoryAPI {
         return executeResult.fold(onError, onSuccess);
     }
 
+    @Override
+    public ResponseEntity<?> patchById(String id, String ifMatch, JsonNode anInput) {
+        final var aPatch = PatchCategoryRequest.from(anInput);
+        final var aCommand = PatchCategoryCommand.with(
+                id, aPatch.fields(), aPatch.name(), aPatch.description(), aPatch.active(), expectedUpdatedAt(id, ifMatch));
+
+        final Function<Notification, ResponseEntity<?>> onError = notification ->
+                ResponseEntity.unprocessableEntity().body(notification);
+
+        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = ResponseEntity::ok;
+
+        return this.patchCategoryUseCase.execute(aCommand).fold(onError, onSuccess);
+    }
+
+    // "*" só exige que a categoria exista, o que o próprio update já garante
+    static Instant expectedUpdatedAt(final String id, final String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) return null;
+
+        return CategoryETags.parse(id, ifMatch.trim())
+                .orElseThrow(() -> ConflictException.with(Category.class, CategoryID.from(id)));
+    }
+
     @Override
     public void deleteById(String id) {
         deleteCategoryUseCase.execute(id);
@@ -1,12 +1,15 @@
 package com.admin.catalogo.infrastructure.api.controller;
 
+import com.admin.catalogo.domain.exceptions.ConflictException;
 import com.admin.catalogo.domain.exceptions.DomainException;
 import com.admin.catalogo.domain.exceptions.NotFoundException;
 import com.admin.catalogo.domain.validation.Error;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -23,6 +26,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    // Com If-Match o cliente pediu a versão explicitamente (412); sem ele foi uma edição concorrente (409)
+    @ExceptionHandler({ ConflictException.class })
+    public ResponseEntity<?> handleConflictException(final ConflictException ex, final WebRequest request) {
+        final var status = request.getHeader(HttpHeaders.IF_MATCH) != null
+                ? HttpStatus.PRECONDITION_FAILED
+                : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body(ApiError.from(ex));
+    }
+
     static record ApiError(String message, List<Error> errors){
         static ApiError from(final DomainException ex) {
             return new ApiError(ex.getMessage(), ex.getErrors());
@@ -0,0 +1,135 @@
+package com.admin.catalogo.infrastructure.api.controller;
+
+import com.admin.catalogo.application.category.category.create.AsyncCreateCategoryUseCase;
+import com.admin.catalogo.application.category.category.create.CreateCategoryCommand;
+import com.admin.catalogo.application.category.category.create.CreateCategoryOutput;
+import com.admin.catalogo.application.category.category.delete.AsyncDeleteCategoryUseCase;
+import com.admin.catalogo.application.category.category.retrieve.get.AsyncGetCategoryByIdUseCase;
+import com.admin.catalogo.application.category.category.retrieve.list.AsyncListCategoriesUseCase;
+import com.admin.catalogo.application.category.category.update.AsyncPatchCategoryUseCase;
+import com.admin.catalogo.application.category.category.update.AsyncUpdateCategoryUseCase;
+import com.admin.catalogo.application.category.category.update.PatchCategoryCommand;
+import com.admin.catalogo.application.category.category.update.UpdateCategoryCommand;
+import com.admin.catalogo.application.category.category.update.UpdateCategoryOutput;
+import com.admin.catalogo.domain.category.CategorySearchQuery;
+import com.admin.catalogo.domain.exceptions.Notification;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.TotalMode;
+import com.admin.catalogo.infrastructure.api.ReactiveCategoryAPI;
+import com.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import com.admin.catalogo.infrastructure.category.models.PatchCategoryRequest;
+import com.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.admin.catalogo.infrastructure.category.presenters.CategoryAPIPresenter;
+import com.admin.catalogo.infrastructure.category.presenters.CategoryETags;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+// O Spring MVC assina os Mono retornados de forma assíncrona: o worker do Undertow é liberado enquanto o R2DBC espera o banco.
+// As escritas chegam ao cache e ao índice em memória pelo category_outbox, como as de qualquer outra instância.
+@RestController
+@Profile("reactive")
+public class ReactiveCategoryController implements ReactiveCategoryAPI {
+
+    private final AsyncCreateCategoryUseCase createCategoryUseCase;
+    private final AsyncGetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final AsyncUpdateCategoryUseCase updateCategoryUseCase;
+    private final AsyncPatchCategoryUseCase patchCategoryUseCase;
+    private final AsyncDeleteCategoryUseCase deleteCategoryUseCase;
+    private final AsyncListCategoriesUseCase listCategoriesUseCase;
+
+    public ReactiveCategoryController(final AsyncCreateCategoryUseCase createCategoryUseCase,
+                                      final AsyncGetCategoryByIdUseCase getCategoryByIdUseCase,
+                                      final AsyncUpdateCategoryUseCase updateCategoryUseCase,
+                                      final AsyncPatchCategoryUseCase patchCategoryUseCase,
+                                      final AsyncDeleteCategoryUseCase deleteCategoryUseCase,
+                                      final AsyncListCategoriesUseCase listCategoriesUseCase
+    ) {
+        this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
+        this.patchCategoryUseCase = Objects.requireNonNull(patchCategoryUseCase);
+        this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+        this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+    }
+
+    @Override
+    public Mono<ResponseEntity<?>> createCategory(CreateCategoryRequest input) {
+        final var anCommand = CreateCategoryCommand.with(
+                input.name(),
+                input.description(),
+                Optional.ofNullable(input.active()).orElse(true)
+        );
+
+        final Function<Notification, ResponseEntity<?>> onError = notification ->
+                ResponseEntity.unprocessableEntity().body(notification);
+
+        final Function<CreateCategoryOutput, ResponseEntity<?>> onSuccess = output ->
+                ResponseEntity.created(URI.create("/reactive/categories/" + output.id())).body(output);
+
+        return Mono.fromFuture(() -> this.createCategoryUseCase.execute(anCommand))
+                .map(result -> result.fold(onError, onSuccess));
+    }
+
+    @Override
+    public Mono<Pagination<CategoryListResponse>> listCategories(String search, Integer page, Integer perPage, String sort, String dir, String total) {
+        final var aQuery = new CategorySearchQuery(page, perPage, search, sort, dir, null, TotalMode.from(total));
+
+        return Mono.fromFuture(() -> this.listCategoriesUseCase.execute(aQuery))
+                .map(result -> result.map(CategoryAPIPresenter::present));
+    }
+
+    @Override
+    public Mono<ResponseEntity<CategoryResponse>> getById(String id) {
+        // Com ETag/Last-Modified na resposta o Spring responde 304 ao If-None-Match/If-Modified-Since
+        return Mono.fromFuture(() -> this.getCategoryByIdUseCase.execute(id))
+                .map(CategoryAPIPresenter.present)
+                .map(aCategory -> ResponseEntity.ok()
+                        .eTag(CategoryETags.of(aCategory.id(), aCategory.updatedAt()))
+                        .lastModified(aCategory.updatedAt())
+                        .body(aCategory));
+    }
+
+    @Override
+    public Mono<ResponseEntity<?>> updateById(String id, String ifMatch, UpdateCategoryRequest anInput) {
+        final var anCommand = UpdateCategoryCommand
+                .with(id, anInput.name(), anInput.description(), anInput.active(), CategoryController.expectedUpdatedAt(id, ifMatch));
+
+        final Function<Notification, ResponseEntity<?>> onError = notification ->
+                ResponseEntity.unprocessableEntity().body(notification);
+
+        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = ResponseEntity::ok;
+
+        return Mono.fromFuture(() -> this.updateCategoryUseCase.execute(anCommand))
+                .map(result -> result.fold(onError, onSuccess));
+    }
+
+    @Override
+    public Mono<ResponseEntity<?>> patchById(String id, String ifMatch, JsonNode anInput) {
+        final var aPatch = PatchCategoryRequest.from(anInput);
+        final var aCommand = PatchCategoryCommand.with(
+                id, aPatch.fields(), aPatch.name(), aPatch.description(), aPatch.active(), CategoryController.expectedUpdatedAt(id, ifMatch));
+
+        final Function<Notification, ResponseEntity<?>> onError = notification ->
+                ResponseEntity.unprocessableEntity().body(notification);
+
+        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = ResponseEntity::ok;
+
+        return Mono.fromFuture(() -> this.patchCategoryUseCase.execute(aCommand))
+                .map(result -> result.fold(onError, onSuccess));
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return Mono.fromFuture(() -> this.deleteCategoryUseCase.execute(id));
+    }
+}
@@ -0,0 +1,10 @@
+package com.admin.catalogo.infrastructure.category;
+
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
+
+import java.util.List;
+
+public interface CategoryBatchRepository {
+
+    void insertAll(List<CategoryJPAEntity> entities);
+}
@@ -0,0 +1,48 @@
+package com.admin.catalogo.infrastructure.category;
+
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Objects;
+
+public class CategoryBatchRepositoryImpl implements CategoryBatchRepository {
+
+    private static final String BATCH_SIZE_PROPERTY = "hibernate.jdbc.batch_size";
+    private static final int DEFAULT_BATCH_SIZE = 50;
+
+    private final EntityManager entityManager;
+
+    public CategoryBatchRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    // persist direto (sem o merge do save) não faz SELECT antes do INSERT; o flush a cada lote
+    // envia os INSERTs agrupados pelo hibernate.jdbc.batch_size e o clear mantém o contexto pequeno
+    @Override
+    @Transactional
+    public void insertAll(final List<CategoryJPAEntity> entities) {
+        final var batchSize = batchSize();
+
+        for (int i = 0; i < entities.size(); i++) {
+            this.entityManager.persist(entities.get(i));
+
+            if ((i + 1) % batchSize == 0) {
+                this.entityManager.flush();
+                this.entityManager.clear();
+            }
+        }
+
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    private int batchSize() {
+        final var value = this.entityManager.getEntityManagerFactory().getProperties().get(BATCH_SIZE_PROPERTY);
+        if (value == null) return DEFAULT_BATCH_SIZE;
+
+        final var batchSize = Integer.parseInt(value.toString());
+        return batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+}
@@ -0,0 +1,20 @@
+package com.admin.catalogo.infrastructure.category;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface CategoryFullTextRepository {
+
+    // O índice FULLTEXT só existe no MySQL (db/migration/mysql), nos demais bancos a busca continua via LIKE.
+    boolean supportsFullText();
+
+    // Relevância segue a posição no ranking: asc traz o melhor resultado primeiro e desc inverte a lista
+    List<Category> findSliceByRelevance(Specification<CategoryJPAEntity> whereClause,
+                                        String booleanQuery,
+                                        boolean ascending,
+                                        int offset,
+                                        int limit);
+}
@@ -0,0 +1,72 @@
+package com.admin.catalogo.infrastructure.category;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.Objects;
+
+import static com.admin.catalogo.infrastructure.utils.SpecificationUtils.relevance;
+
+public class CategoryFullTextRepositoryImpl implements CategoryFullTextRepository {
+
+    private final EntityManager entityManager;
+    private final boolean fullTextSupported;
+
+    public CategoryFullTextRepositoryImpl(final EntityManager entityManager, final DataSource dataSource) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.fullTextSupported = isMySQL(dataSource);
+    }
+
+    @Override
+    public boolean supportsFullText() {
+        return fullTextSupported;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Category> findSliceByRelevance(final Specification<CategoryJPAEntity> whereClause,
+                                               final String booleanQuery,
+                                               final boolean ascending,
+                                               final int offset,
+                                               final int limit) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(Object[].class);
+        final var root = query.from(CategoryJPAEntity.class);
+
+        if (whereClause != null) {
+            final var predicate = whereClause.toPredicate(root, query, cb);
+            if (predicate != null) query.where(predicate);
+        }
+
+        CategoryProjection.select(query, root);
+        final var score = relevance(root, cb, "name", "description", booleanQuery);
+        query.orderBy(ascending
+                ? List.of(cb.desc(score), cb.asc(root.get("id")))
+                : List.of(cb.asc(score), cb.desc(root.get("id"))));
+
+        return this.entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(CategoryProjection::toAggregate)
+                .toList();
+    }
+
+    private static boolean isMySQL(final DataSource dataSource) {
+        try {
+            final String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "MySQL".equalsIgnoreCase(productName);
+        } catch (final MetaDataAccessException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.admin.catalogo.infrastructure.category;
+
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
+
+import java.util.Set;
+
+public interface CategoryPartialUpdateRepository {
+
+    String NAME = "name";
+    String DESCRIPTION = "description";
+    String ACTIVE = "active";
+    String DELETED_AT = "deletedAt";
+
+    int updateColumnsIfVersionMatches(CategoryJPAEntity entity, Set<String> attributes);
+}
@@ -0,0 +1,57 @@
+package com.admin.catalogo.infrastructure.category;
+
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Objects;
+import java.util.Set;
+
+public class CategoryPartialUpdateRepositoryImpl implements CategoryPartialUpdateRepository {
+
+    private static final Set<String> UPDATABLE = Set.of(NAME, DESCRIPTION, ACTIVE, DELETED_AT);
+
+    private final EntityManager entityManager;
+
+    public CategoryPartialUpdateRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    // UPDATE só com as colunas alteradas (mais updated_at e version), no mesmo WHERE id/version do update completo.
+    // O JPQL é montado a partir de nomes fixos, então nenhum valor do cliente entra no texto da query.
+    @Override
+    @Transactional
+    public int updateColumnsIfVersionMatches(final CategoryJPAEntity entity, final Set<String> attributes) {
+        if (!UPDATABLE.containsAll(attributes)) {
+            throw new IllegalArgumentException("Only %s can be partially updated".formatted(UPDATABLE));
+        }
+
+        final var jpql = new StringBuilder("update CategoryJPAEntity c set c.updatedAt = :updatedAt, c.version = c.version + 1");
+        attributes.stream().sorted().forEach(attribute ->
+                jpql.append(", c.").append(attribute).append(" = :").append(attribute));
+        jpql.append(" where c.id = :id and c.version = :version");
+
+        this.entityManager.flush();
+
+        final var query = this.entityManager.createQuery(jpql.toString())
+                .setParameter("updatedAt", entity.getUpdatedAt())
+                .setParameter("id", entity.getId())
+                .setParameter("version", entity.getVersion());
+
+        attributes.forEach(attribute -> query.setParameter(attribute, valueOf(entity, attribute)));
+
+        final var updated = query.executeUpdate();
+        this.entityManager.clear();
+        return updated;
+    }
+
+    private static Object valueOf(final CategoryJPAEntity entity, final String attribute) {
+        return switch (attribute) {
+            case NAME -> entity.getName();
+            case DESCRIPTION -> entity.getDescription();
+            case ACTIVE -> entity.isActive();
+            case DELETED_AT -> entity.getDeletedAt();
+            default -> throw new IllegalArgumentException(attribute);
+        };
+    }
+}
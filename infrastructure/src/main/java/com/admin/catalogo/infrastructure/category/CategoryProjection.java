@@ -0,0 +1,42 @@
+package com.admin.catalogo.infrastructure.category;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
+
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.time.Instant;
+
+// Seleciona as colunas da categoria como Object[] e monta o Category direto da linha.
+// Sem entidade gerenciada não há EntityEntry, snapshot para dirty checking nem registro no persistence context.
+final class CategoryProjection {
+
+    private CategoryProjection() {}
+
+    static void select(final CriteriaQuery<Object[]> query, final Root<CategoryJPAEntity> root) {
+        query.multiselect(
+                root.get("id"),
+                root.get("name"),
+                root.get("description"),
+                root.get("active"),
+                root.get("createdAt"),
+                root.get("updatedAt"),
+                root.get("deletedAt"),
+                root.get("version")
+        );
+    }
+
+    static Category toAggregate(final Object[] row) {
+        return Category.with(
+                CategoryID.from((String) row[0]),
+                (String) row[1],
+                (String) row[2],
+                (Boolean) row[3],
+                (Instant) row[4],
+                (Instant) row[5],
+                (Instant) row[6],
+                (Long) row[7]
+        );
+    }
+}
@@ -5,7 +5,50 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface CategoryRepository extends JpaRepository<CategoryJPAEntity, String> {
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+public interface CategoryRepository extends JpaRepository<CategoryJPAEntity, String>,
+        CategorySliceRepository, CategoryFullTextRepository, CategoryBatchRepository, CategoryPartialUpdateRepository {
     Page<CategoryJPAEntity> findAll(Specification<CategoryJPAEntity> whereClause, Pageable page);
+
+    long count(Specification<CategoryJPAEntity> whereClause);
+
+    // Sem query cache: o GET condicional precisa da versão atual do banco, e o cache de segundo nível é local à instância
+    @Query("select c.updatedAt from CategoryJPAEntity c where c.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    // UPDATE condicional em um único round trip (sem o SELECT do merge). Retorna 0 se a versão mudou.
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update CategoryJPAEntity c set c.name = :#{#entity.name}, c.description = :#{#entity.description}, " +
+            "c.active = :#{#entity.active}, c.updatedAt = :#{#entity.updatedAt}, c.deletedAt = :#{#entity.deletedAt}, " +
+            "c.version = c.version + 1 " +
+            "where c.id = :#{#entity.id} and c.version = :#{#entity.version}")
+    int updateIfVersionMatches(@Param("entity") CategoryJPAEntity entity);
+
+    // DELETE direto, sem o existsById + findById do deleteById padrão. Retorna 0 se a categoria não existia.
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CategoryJPAEntity c where c.id = :id")
+    int deleteOneById(@Param("id") String id);
+
+    // Precisa ser consumido dentro de uma transação. Com useCursorFetch=true o MySQL entrega as linhas em lotes do fetch size.
+    @Query("select c from CategoryJPAEntity c")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    Stream<CategoryJPAEntity> streamAll();
 }
@@ -0,0 +1,15 @@
+package com.admin.catalogo.infrastructure.category;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface CategorySliceRepository {
+
+    // Busca uma janela de registros sem disparar o COUNT que o findAll(Specification, Pageable) executa.
+    // Leitura por projeção: retorna o agregado, sem carregar entidades no persistence context.
+    List<Category> findSlice(Specification<CategoryJPAEntity> whereClause, Sort sort, int offset, int limit);
+}
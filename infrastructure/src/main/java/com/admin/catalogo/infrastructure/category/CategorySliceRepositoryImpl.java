@@ -0,0 +1,48 @@
+package com.admin.catalogo.infrastructure.category;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Objects;
+
+public class CategorySliceRepositoryImpl implements CategorySliceRepository {
+
+    private final EntityManager entityManager;
+
+    public CategorySliceRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Category> findSlice(final Specification<CategoryJPAEntity> whereClause,
+                                    final Sort sort,
+                                    final int offset,
+                                    final int limit) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(Object[].class);
+        final var root = query.from(CategoryJPAEntity.class);
+
+        if (whereClause != null) {
+            final var predicate = whereClause.toPredicate(root, query, cb);
+            if (predicate != null) query.where(predicate);
+        }
+
+        CategoryProjection.select(query, root);
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return this.entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(CategoryProjection::toAggregate)
+                .toList();
+    }
+}
@@ -0,0 +1,25 @@
+package com.admin.catalogo.infrastructure.category;
+
+import com.admin.catalogo.infrastructure.category.persistence.CategoryTombstoneJPAEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+// As duas consultas seguem o índice (deleted_at, id) e retornam List para não disparar COUNT
+public interface CategoryTombstoneRepository extends JpaRepository<CategoryTombstoneJPAEntity, String> {
+
+    @Query("select t from CategoryTombstoneJPAEntity t where t.deletedAt <= :until order by t.deletedAt, t.id")
+    List<CategoryTombstoneJPAEntity> findUntil(@Param("until") Instant until, Pageable page);
+
+    @Query("select t from CategoryTombstoneJPAEntity t " +
+            "where (t.deletedAt > :since or (t.deletedAt = :since and t.id > :id)) and t.deletedAt <= :until " +
+            "order by t.deletedAt, t.id")
+    List<CategoryTombstoneJPAEntity> findAfter(@Param("since") Instant since,
+                                               @Param("id") String id,
+                                               @Param("until") Instant until,
+                                               Pageable page);
+}
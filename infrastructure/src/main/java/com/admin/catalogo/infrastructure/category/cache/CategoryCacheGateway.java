@@ -0,0 +1,135 @@
+package com.admin.catalogo.infrastructure.category.cache;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryChange;
+import com.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.admin.catalogo.domain.category.CategoryField;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.category.CategorySearchQuery;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.infrastructure.configuration.properties.CategoryCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+// Read-through cache do findById. Category é mutável (o update altera a instância retornada),
+// por isso as instâncias são clonadas na entrada e na saída do cache.
+// O GET condicional não usa o cache: o 304 só confirma a versão que o banco tem agora (findUpdatedAtById é uma
+// projeção de uma coluna pela PK). Uma versão diferente da que está em cache remove a entrada antiga.
+// As escritas desta instância invalidam na hora; as de outras instâncias (e do gateway reativo) chegam pelo
+// category_outbox (ver CategoryUseCaseConfig). O update não lê daqui: findByIdForUpdate vai direto ao delegate.
+public class CategoryCacheGateway implements CategoryGateway {
+
+    public static final String CACHE_NAME = "categories";
+
+    private final CategoryGateway delegate;
+    private final Cache<CategoryID, Category> cache;
+
+    public CategoryCacheGateway(final CategoryGateway delegate, final Cache<CategoryID, Category> cache) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    public static CategoryCacheGateway with(final CategoryGateway delegate,
+                                            final CategoryCacheProperties properties,
+                                            final MeterRegistry meterRegistry) {
+        final Cache<CategoryID, Category> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        return new CategoryCacheGateway(delegate, cache);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var created = this.delegate.create(aCategory);
+        invalidate(created.getId());
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var created = this.delegate.createAll(aCategories);
+        created.forEach(aCategory -> invalidate(aCategory.getId()));
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID categoryID) {
+        this.delegate.deleteById(categoryID);
+        invalidate(categoryID);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID categoryID) {
+        final var aCategory = this.cache.get(categoryID, anId ->
+                this.delegate.findById(anId).map(Category::clone).orElse(null));
+
+        return Optional.ofNullable(aCategory).map(Category::clone);
+    }
+
+    @Override
+    public Optional<Category> findByIdForUpdate(final CategoryID categoryID) {
+        return this.delegate.findByIdForUpdate(categoryID);
+    }
+
+    // Se a versão do banco difere da que está em cache, o findById que vem em seguida (200) recarrega a categoria
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CategoryID categoryID) {
+        final var updatedAt = this.delegate.findUpdatedAtById(categoryID);
+
+        final var cached = this.cache.getIfPresent(categoryID);
+        if (cached != null && !updatedAt.map(cached.getUpdatedAt()::equals).orElse(false)) {
+            this.cache.asMap().remove(categoryID, cached);
+        }
+        return updatedAt;
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        try {
+            return this.delegate.update(aCategory);
+        } finally {
+            invalidate(aCategory.getId());
+        }
+    }
+
+    @Override
+    public Category update(final Category aCategory, final Set<CategoryField> changedFields) {
+        try {
+            return this.delegate.update(aCategory, changedFields);
+        } finally {
+            invalidate(aCategory.getId());
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public Pagination<CategoryChange> findChanges(final CategoryChangesQuery aQuery) {
+        return this.delegate.findChanges(aQuery);
+    }
+
+    public Cache<CategoryID, Category> cache() {
+        return cache;
+    }
+
+    public void invalidate(final CategoryID anId) {
+        this.cache.invalidate(anId);
+    }
+}
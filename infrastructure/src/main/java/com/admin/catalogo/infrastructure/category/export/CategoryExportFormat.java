@@ -0,0 +1,36 @@
+package com.admin.catalogo.infrastructure.category.export;
+
+import com.admin.catalogo.domain.exceptions.DomainException;
+import com.admin.catalogo.domain.validation.Error;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public enum CategoryExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    CategoryExportFormat(final MediaType mediaType, final String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static CategoryExportFormat from(final String aFormat) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(aFormat))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error("'format' must be one of ndjson or csv")));
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String fileName() {
+        return "categories." + extension;
+    }
+}
@@ -0,0 +1,118 @@
+package com.admin.catalogo.infrastructure.category.export;
+
+import com.admin.catalogo.infrastructure.category.CategoryRepository;
+import com.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Exporta a tabela inteira lendo em stream (cursor no servidor) e escrevendo direto na resposta,
+// cada entidade é descartada do contexto de persistência logo após ser escrita.
+@Component
+public class CategoryExporter {
+
+    private static final String CSV_HEADER = "id,name,description,is_active,created_at,updated_at,deleted_at";
+
+    private final CategoryRepository repository;
+    private final EntityManager entityManager;
+
+    public CategoryExporter(final CategoryRepository repository, final EntityManager entityManager) {
+        this.repository = Objects.requireNonNull(repository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    @Transactional(readOnly = true)
+    public void export(final CategoryExportFormat aFormat, final OutputStream out) throws IOException {
+        switch (aFormat) {
+            case NDJSON -> writeNdjson(out);
+            case CSV -> writeCsv(out);
+        }
+    }
+
+    private void writeNdjson(final OutputStream out) throws IOException {
+        try (final var generator = Json.createGenerator(out)) {
+            forEach(anEntity -> Json.invoke(() -> {
+                generator.writeObject(toResponse(anEntity));
+                generator.writeRaw('\n');
+                return null;
+            }));
+        }
+    }
+
+    private void writeCsv(final OutputStream out) throws IOException {
+        //Sem fechar o writer: quem fecha a resposta é o container
+        final var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        forEach(anEntity -> {
+            try {
+                writeCsvLine(writer, anEntity);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+
+        writer.flush();
+    }
+
+    private void forEach(final Consumer<CategoryJPAEntity> action) {
+        try (final Stream<CategoryJPAEntity> entities = this.repository.streamAll()) {
+            entities.forEach(anEntity -> {
+                action.accept(anEntity);
+                this.entityManager.detach(anEntity);
+            });
+        }
+    }
+
+    private static void writeCsvLine(final Writer writer, final CategoryJPAEntity anEntity) throws IOException {
+        writer.write(csv(anEntity.getId()));
+        writer.write(',');
+        writer.write(csv(anEntity.getName()));
+        writer.write(',');
+        writer.write(csv(anEntity.getDescription()));
+        writer.write(',');
+        writer.write(String.valueOf(anEntity.isActive()));
+        writer.write(',');
+        writer.write(csv(Objects.toString(anEntity.getCreatedAt(), null)));
+        writer.write(',');
+        writer.write(csv(Objects.toString(anEntity.getUpdatedAt(), null)));
+        writer.write(',');
+        writer.write(csv(Objects.toString(anEntity.getDeletedAt(), null)));
+        writer.write('\n');
+    }
+
+    // RFC 4180: campos com vírgula, aspas ou quebra de linha vão entre aspas, com as aspas duplicadas
+    static String csv(final String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static CategoryResponse toResponse(final CategoryJPAEntity anEntity) {
+        return new CategoryResponse(
+                anEntity.getId(),
+                anEntity.getName(),
+                anEntity.getDescription(),
+                anEntity.isActive(),
+                anEntity.getCreatedAt(),
+                anEntity.getUpdatedAt(),
+                anEntity.getDeletedAt()
+        );
+    }
+}
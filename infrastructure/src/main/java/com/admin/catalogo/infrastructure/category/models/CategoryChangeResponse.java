@@ -0,0 +1,19 @@
+package com.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+// Uma remoção chega como tombstone: só id, deleted=true e changed_at são preenchidos
+public record CategoryChangeResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("deleted") boolean deleted,
+        @JsonProperty("changed_at") Instant changedAt,
+        @JsonProperty("name") String name,
+        @JsonProperty("description") String description,
+        @JsonProperty("is_active") Boolean active,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("updated_at") Instant updatedAt,
+        @JsonProperty("deleted_at") Instant deletedAt
+) {
+}
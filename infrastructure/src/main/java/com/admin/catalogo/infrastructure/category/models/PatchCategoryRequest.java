@@ -0,0 +1,51 @@
+package com.admin.catalogo.infrastructure.category.models;
+
+import com.admin.catalogo.domain.category.CategoryField;
+import com.admin.catalogo.domain.exceptions.DomainException;
+import com.admin.catalogo.domain.validation.Error;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+// Corpo de um JSON Merge Patch (RFC 7396). Propriedade ausente não muda; null apaga o valor.
+// Por isso o corpo é lido como árvore: um record com campos nulos não distingue ausente de null.
+public record PatchCategoryRequest(
+        Set<CategoryField> fields,
+        String name,
+        String description,
+        Boolean active
+) {
+
+    public static PatchCategoryRequest from(final JsonNode aBody) {
+        if (aBody == null || !aBody.isObject()) {
+            throw DomainException.with(new Error("merge patch body must be a JSON object"));
+        }
+
+        final var fields = EnumSet.noneOf(CategoryField.class);
+        if (aBody.has("name")) fields.add(CategoryField.NAME);
+        if (aBody.has("description")) fields.add(CategoryField.DESCRIPTION);
+        if (aBody.has("is_active")) fields.add(CategoryField.ACTIVE);
+
+        return new PatchCategoryRequest(
+                fields,
+                text(aBody, "name"),
+                text(aBody, "description"),
+                bool(aBody, "is_active")
+        );
+    }
+
+    private static String text(final JsonNode aBody, final String aField) {
+        final var node = aBody.get(aField);
+        if (node == null || node.isNull()) return null;
+        if (!node.isTextual()) throw DomainException.with(new Error("'%s' must be a string".formatted(aField)));
+        return node.textValue();
+    }
+
+    private static Boolean bool(final JsonNode aBody, final String aField) {
+        final var node = aBody.get(aField);
+        if (node == null || node.isNull()) return null;
+        if (!node.isBoolean()) throw DomainException.with(new Error("'%s' must be a boolean".formatted(aField)));
+        return node.booleanValue();
+    }
+}
@@ -0,0 +1,16 @@
+package com.admin.catalogo.infrastructure.category.outbox;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+
+// sequence é o id da linha no outbox: cresce na ordem das gravações e serve para o consumidor descartar repetições
+public record CategoryChangeEvent(
+        @JsonProperty("sequence") long sequence,
+        @JsonProperty("type") CategoryChangeType type,
+        @JsonProperty("category_id") String categoryId,
+        @JsonProperty("occurred_at") Instant occurredAt,
+        @JsonProperty("category") @JsonRawValue String payload
+) {
+}
@@ -0,0 +1,7 @@
+package com.admin.catalogo.infrastructure.category.outbox;
+
+public enum CategoryChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
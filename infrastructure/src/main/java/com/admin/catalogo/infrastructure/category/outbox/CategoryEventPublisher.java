@@ -0,0 +1,9 @@
+package com.admin.catalogo.infrastructure.category.outbox;
+
+import java.util.List;
+
+// Destino dos eventos drenados do outbox. Se publish lançar exceção o lote volta para a tabela e é reenviado (at-least-once).
+public interface CategoryEventPublisher {
+
+    void publish(List<CategoryChangeEvent> events);
+}
@@ -0,0 +1,73 @@
+package com.admin.catalogo.infrastructure.category.outbox;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.admin.catalogo.infrastructure.category.persistence.BinaryUUIDs;
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+// Grava os eventos de alteração de categoria na tabela category_outbox.
+// Usa a conexão da transação corrente (o JpaTransactionManager a expõe para o JDBC), então o evento
+// só existe se a escrita da categoria for confirmada, e vice-versa.
+@Component
+public class CategoryOutbox {
+
+    private static final String INSERT =
+            "INSERT INTO category_outbox (category_id, type, payload, occurred_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CategoryOutbox(final DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public void created(final List<Category> aCategories) {
+        append(aCategories.stream()
+                .map(aCategory -> row(aCategory.getId(), CategoryChangeType.CREATED, payload(aCategory)))
+                .toList());
+    }
+
+    public void updated(final Category aCategory) {
+        append(List.<Object[]>of(row(aCategory.getId(), CategoryChangeType.UPDATED, payload(aCategory))));
+    }
+
+    public void deleted(final CategoryID anId) {
+        append(List.<Object[]>of(row(anId, CategoryChangeType.DELETED, null)));
+    }
+
+    private void append(final List<Object[]> rows) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox events must be written in the same transaction as the category");
+        }
+
+        if (rows.isEmpty()) return;
+
+        // Lote JDBC: com rewriteBatchedStatements vira um único INSERT multi-values
+        this.jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+
+    private static Object[] row(final CategoryID anId, final CategoryChangeType aType, final String aPayload) {
+        return new Object[]{ BinaryUUIDs.toBytes(anId.getValue()), aType.name(), aPayload, Timestamp.from(Instant.now()) };
+    }
+
+    // Também usado pelo CategoryR2dbcGateway, para os eventos terem o mesmo formato nos dois gateways
+    public static String payload(final Category aCategory) {
+        return Json.writeValueAsString(new CategoryResponse(
+                aCategory.getId().getValue(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                aCategory.getDeletedAt()
+        ));
+    }
+}
@@ -0,0 +1,196 @@
+package com.admin.catalogo.infrastructure.category.outbox;
+
+import com.admin.catalogo.infrastructure.category.persistence.BinaryUUIDs;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Drena o category_outbox em lotes. Uma transação curta reserva o lote (claimed_until) e commita; a publicação roda
+// fora dela, sem segurar locks nem conexão enquanto o broker responde, e depois o lote é marcado com published_at.
+// Se a publicação falhar a reserva é desfeita e o lote volta no próximo ciclo; se a instância cair no meio, o lote
+// volta quando a reserva expira (claim timeout). A entrega é at-least-once.
+// No MySQL o SKIP LOCKED deixa mais de uma instância reservar ao mesmo tempo, cada uma com lotes diferentes.
+// As linhas publicadas ficam na tabela pelo retention: o CategoryEventStream de todas as instâncias lê delas (e faz o
+// replay do Last-Event-ID). Depois disso são apagadas.
+public class CategoryOutboxRelay implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryOutboxRelay.class);
+
+    private static final String SELECT_BATCH = "SELECT id, category_id, type, payload, occurred_at FROM category_outbox " +
+            "WHERE published_at IS NULL AND (claimed_until IS NULL OR claimed_until < :now) ORDER BY id LIMIT :limit";
+    private static final String CLAIM = "UPDATE category_outbox SET claimed_until = :until WHERE id IN (:ids)";
+    private static final String RELEASE = "UPDATE category_outbox SET claimed_until = NULL WHERE id IN (:ids) AND published_at IS NULL";
+    private static final String MARK_PUBLISHED = "UPDATE category_outbox SET published_at = :now, claimed_until = NULL WHERE id IN (:ids)";
+    private static final String SELECT_EXPIRED = "SELECT id FROM category_outbox WHERE published_at < :cutoff ORDER BY id LIMIT :limit";
+    private static final String DELETE_BATCH = "DELETE FROM category_outbox WHERE id IN (:ids)";
+
+    private static final RowMapper<CategoryChangeEvent> ROW_MAPPER = (rs, rowNum) -> new CategoryChangeEvent(
+            rs.getLong("id"),
+            CategoryChangeType.valueOf(rs.getString("type")),
+            BinaryUUIDs.fromBytes(rs.getBytes("category_id")),
+            rs.getTimestamp("occurred_at").toInstant(),
+            rs.getString("payload")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryEventPublisher publisher;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration claimTimeout;
+    private final Duration retention;
+    private final String selectBatch;
+    private final Counter published;
+    private final ScheduledExecutorService scheduler;
+
+    public CategoryOutboxRelay(final DataSource dataSource,
+                               final PlatformTransactionManager transactionManager,
+                               final CategoryEventPublisher publisher,
+                               final int batchSize,
+                               final Duration pollInterval,
+                               final Duration claimTimeout,
+                               final Duration retention,
+                               final MeterRegistry meterRegistry) {
+        if (batchSize < 1) throw new IllegalArgumentException("'batchSize' must be positive");
+
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.publisher = Objects.requireNonNull(publisher);
+        this.batchSize = batchSize;
+        this.pollInterval = Objects.requireNonNull(pollInterval);
+        this.claimTimeout = Objects.requireNonNull(claimTimeout);
+        this.retention = Objects.requireNonNull(retention);
+        this.selectBatch = isMySQL(dataSource) ? SELECT_BATCH + " FOR UPDATE SKIP LOCKED" : SELECT_BATCH;
+        this.published = Counter.builder("outbox.events.published")
+                .tag("outbox", "category")
+                .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "category-outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        this.scheduler.scheduleWithFixedDelay(this::drainQuietly, 0, this.pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // Publica lotes cheios em sequência até a tabela esvaziar; retorna quantos eventos saíram
+    public int drain() {
+        var total = 0;
+        int sent;
+        do {
+            sent = relayBatch();
+            total += sent;
+        } while (sent == this.batchSize);
+        return total;
+    }
+
+    private int relayBatch() {
+        final List<CategoryChangeEvent> events = this.transactionTemplate.execute(status -> claimBatch());
+        if (events == null || events.isEmpty()) return 0;
+
+        final var ids = events.stream().map(CategoryChangeEvent::sequence).toList();
+        try {
+            this.publisher.publish(events);
+        } catch (final RuntimeException ex) {
+            release(ids);
+            throw ex;
+        }
+
+        this.transactionTemplate.executeWithoutResult(status ->
+                this.jdbcTemplate.update(MARK_PUBLISHED, Map.of("now", Timestamp.from(Instant.now()), "ids", ids)));
+
+        this.published.increment(events.size());
+        return events.size();
+    }
+
+    private List<CategoryChangeEvent> claimBatch() {
+        final var now = Instant.now();
+        final List<CategoryChangeEvent> events = this.jdbcTemplate.query(
+                this.selectBatch, Map.of("now", Timestamp.from(now), "limit", this.batchSize), ROW_MAPPER);
+        if (events.isEmpty()) return events;
+
+        final var ids = events.stream().map(CategoryChangeEvent::sequence).toList();
+        this.jdbcTemplate.update(CLAIM, Map.of("until", Timestamp.from(now.plus(this.claimTimeout)), "ids", ids));
+        return events;
+    }
+
+    // Se não der para desfazer a reserva, o lote volta quando ela expirar
+    private void release(final List<Long> ids) {
+        try {
+            this.transactionTemplate.executeWithoutResult(status -> this.jdbcTemplate.update(RELEASE, Map.of("ids", ids)));
+        } catch (final RuntimeException ex) {
+            log.warn("Category outbox relay could not release the batch, it will be retried after the claim timeout", ex);
+        }
+    }
+
+    // Apaga em lotes as linhas publicadas há mais que o retention; retorna quantas saíram
+    public int purge() {
+        final var cutoff = Timestamp.from(Instant.now().minus(this.retention));
+        var total = 0;
+        int deleted;
+        do {
+            deleted = purgeBatch(cutoff);
+            total += deleted;
+        } while (deleted == this.batchSize);
+        return total;
+    }
+
+    private int purgeBatch(final Timestamp cutoff) {
+        final Integer deleted = this.transactionTemplate.execute(status -> {
+            final List<Long> ids =
+                    this.jdbcTemplate.queryForList(SELECT_EXPIRED, Map.of("cutoff", cutoff, "limit", this.batchSize), Long.class);
+            if (ids.isEmpty()) return 0;
+
+            this.jdbcTemplate.update(DELETE_BATCH, Map.of("ids", ids));
+            return ids.size();
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+            purge();
+        } catch (final RuntimeException ex) {
+            log.warn("Category outbox relay failed, the batch will be retried", ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        this.scheduler.shutdownNow();
+    }
+
+    private static boolean isMySQL(final DataSource dataSource) {
+        try {
+            final String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "MySQL".equalsIgnoreCase(productName);
+        } catch (final MetaDataAccessException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.admin.catalogo.infrastructure.category.outbox;
+
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+// Acrescenta cada lote ao arquivo como NDJSON. O force garante que o lote está em disco antes do relay apagar as linhas.
+public class FileCategoryEventPublisher implements CategoryEventPublisher {
+
+    private final Path file;
+
+    public FileCategoryEventPublisher(final Path file) {
+        this.file = Objects.requireNonNull(file).toAbsolutePath();
+    }
+
+    @Override
+    public synchronized void publish(final List<CategoryChangeEvent> events) {
+        final var lines = new StringBuilder();
+        events.forEach(event -> lines.append(Json.writeValueAsString(event)).append('\n'));
+
+        try {
+            Files.createDirectories(this.file.getParent());
+            try (final var channel = FileChannel.open(this.file, CREATE, WRITE, APPEND)) {
+                final var buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) channel.write(buffer);
+                channel.force(false);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public Path file() {
+        return file;
+    }
+}
@@ -0,0 +1,22 @@
+package com.admin.catalogo.infrastructure.category.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class InMemoryCategoryEventPublisher implements CategoryEventPublisher {
+
+    private final List<CategoryChangeEvent> events = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(final List<CategoryChangeEvent> someEvents) {
+        this.events.addAll(someEvents);
+    }
+
+    public synchronized List<CategoryChangeEvent> events() {
+        return List.copyOf(events);
+    }
+
+    public synchronized void clear() {
+        this.events.clear();
+    }
+}
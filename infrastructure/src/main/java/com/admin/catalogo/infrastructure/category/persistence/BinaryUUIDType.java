@@ -0,0 +1,59 @@
+package com.admin.catalogo.infrastructure.category.persistence;
+
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BinaryTypeDescriptor;
+
+// Mapeia o id String <-> BINARY(16). Um AttributeConverter não serve aqui: a JPA não aplica converters em @Id.
+public class BinaryUUIDType extends AbstractSingleColumnStandardBasicType<String> {
+
+    private static final long serialVersionUID = 1L;
+
+    public BinaryUUIDType() {
+        super(BinaryTypeDescriptor.INSTANCE, JavaDescriptor.INSTANCE);
+    }
+
+    @Override
+    public String getName() {
+        return "binary-uuid";
+    }
+
+    private static final class JavaDescriptor extends AbstractTypeDescriptor<String> {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final JavaDescriptor INSTANCE = new JavaDescriptor();
+
+        private JavaDescriptor() {
+            super(String.class);
+        }
+
+        @Override
+        public String toString(final String value) {
+            return value;
+        }
+
+        @Override
+        public String fromString(final String string) {
+            return string;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <X> X unwrap(final String value, final Class<X> type, final WrapperOptions options) {
+            if (value == null) return null;
+            if (byte[].class.isAssignableFrom(type)) return (X) BinaryUUIDs.toBytes(value);
+            if (String.class.isAssignableFrom(type)) return (X) value;
+            throw unknownUnwrap(type);
+        }
+
+        @Override
+        public <X> String wrap(final X value, final WrapperOptions options) {
+            if (value == null) return null;
+            if (value instanceof byte[] bytes) return BinaryUUIDs.fromBytes(bytes);
+            if (value instanceof String string) return string;
+            throw unknownWrap(value.getClass());
+        }
+    }
+}
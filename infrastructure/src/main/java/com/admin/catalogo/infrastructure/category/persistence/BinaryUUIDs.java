@@ -0,0 +1,56 @@
+package com.admin.catalogo.infrastructure.category.persistence;
+
+import com.admin.catalogo.domain.category.CategoryID;
+
+// O id continua trafegando como string UUID canônica; só no banco ele vira BINARY(16)
+public final class BinaryUUIDs {
+
+    private static final int LENGTH = 36;
+
+    private BinaryUUIDs() {
+    }
+
+    // Ids que não são UUID nunca existem no banco: o gateway responde "não encontrado" sem ir ao MySQL
+    public static boolean isValid(final String anId) {
+        if (anId == null || anId.length() != LENGTH) return false;
+
+        for (int i = 0; i < LENGTH; i++) {
+            final var c = anId.charAt(i);
+            final var valid = isDash(i) ? c == '-' : hex(c) >= 0;
+            if (!valid) return false;
+        }
+        return true;
+    }
+
+    public static byte[] toBytes(final String anId) {
+        if (!isValid(anId)) throw new IllegalArgumentException("Invalid UUID: " + anId);
+
+        final var bytes = new byte[16];
+        for (int i = 0, b = 0; b < bytes.length; b++) {
+            if (isDash(i)) i++;
+            bytes[b] = (byte) ((hex(anId.charAt(i)) << 4) | hex(anId.charAt(i + 1)));
+            i += 2;
+        }
+        return bytes;
+    }
+
+    public static String fromBytes(final byte[] bytes) {
+        long mostSigBits = 0;
+        long leastSigBits = 0;
+        for (int i = 0; i < 8; i++) mostSigBits = (mostSigBits << 8) | (bytes[i] & 0xFF);
+        for (int i = 8; i < 16; i++) leastSigBits = (leastSigBits << 8) | (bytes[i] & 0xFF);
+        return CategoryID.format(mostSigBits, leastSigBits);
+    }
+
+    // Só [0-9a-fA-F]: o Character.digit aceitaria também dígitos não ASCII (ex: '١' ou 'ａ')
+    private static int hex(final char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
+
+    private static boolean isDash(final int index) {
+        return index == 8 || index == 13 || index == 18 || index == 23;
+    }
+}
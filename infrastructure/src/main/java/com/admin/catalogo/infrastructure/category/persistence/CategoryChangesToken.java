@@ -0,0 +1,45 @@
+package com.admin.catalogo.infrastructure.category.persistence;
+
+import com.admin.catalogo.domain.category.CategoryChange;
+import com.admin.catalogo.domain.exceptions.DomainException;
+import com.admin.catalogo.domain.validation.Error;
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+// Marca d'água do feed de alterações: a última alteração entregue, na ordem (changedAt, id)
+public record CategoryChangesToken(
+        @JsonProperty("at") Instant at,
+        @JsonProperty("id") String id
+) {
+
+    public static CategoryChangesToken from(final CategoryChange aChange) {
+        return new CategoryChangesToken(aChange.changedAt(), aChange.id().getValue());
+    }
+
+    public static CategoryChangesToken decode(final String aToken) {
+        final CategoryChangesToken token;
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(aToken), StandardCharsets.UTF_8);
+            token = Json.readValue(json, CategoryChangesToken.class);
+        } catch (final RuntimeException ex) {
+            throw invalid();
+        }
+
+        if (token.at() == null || !BinaryUUIDs.isValid(token.id())) throw invalid();
+
+        return token;
+    }
+
+    public String encode() {
+        final var json = Json.writeValueAsString(this);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(new Error("'since' is invalid"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.admin.catalogo.infrastructure.category.persistence;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.exceptions.DomainException;
+import com.admin.catalogo.domain.validation.Error;
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.admin.catalogo.infrastructure.utils.SpecificationUtils.after;
+
+public record CategoryCursor(
+        @JsonProperty("sort") String sort,
+        @JsonProperty("direction") String direction,
+        @JsonProperty("id") String id,
+        @JsonProperty("value") String value
+) {
+    private static final String ID = "id";
+    private static final Set<String> SORTABLE = Set.of("name", "description", "createdAt", "updatedAt");
+    private static final Set<String> INSTANTS = Set.of("createdAt", "updatedAt");
+
+    public static boolean supports(final String aSort) {
+        return aSort != null && SORTABLE.contains(aSort);
+    }
+
+    public static CategoryCursor from(final Category aCategory,
+                                      final String aSort,
+                                      final String aDirection) {
+        final var aValue = switch (aSort) {
+            case "name" -> aCategory.getName();
+            case "description" -> aCategory.getDescription();
+            case "createdAt" -> Objects.toString(aCategory.getCreatedAt(), null);
+            case "updatedAt" -> Objects.toString(aCategory.getUpdatedAt(), null);
+            default -> throw invalid();
+        };
+
+        return new CategoryCursor(aSort, Sort.Direction.fromString(aDirection).name(), aCategory.getId().getValue(), aValue);
+    }
+
+    public static CategoryCursor decode(final String aCursor) {
+        final CategoryCursor cursor;
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(aCursor), StandardCharsets.UTF_8);
+            cursor = Json.readValue(json, CategoryCursor.class);
+
+            if (cursor.value() != null && INSTANTS.contains(cursor.sort())) Instant.parse(cursor.value());
+        } catch (final RuntimeException ex) {
+            throw invalid();
+        }
+
+        if (!BinaryUUIDs.isValid(cursor.id()) || !supports(cursor.sort())
+                || Sort.Direction.fromOptionalString(cursor.direction()).isEmpty()) {
+            throw invalid();
+        }
+
+        return cursor;
+    }
+
+    public String encode() {
+        final var json = Json.writeValueAsString(this);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean matches(final String aSort, final String aDirection) {
+        return Objects.equals(sort, aSort)
+                && Sort.Direction.fromOptionalString(aDirection).map(dir -> dir.name().equals(direction)).orElse(false);
+    }
+
+    public Sort toSort() {
+        final var aDirection = Sort.Direction.fromString(direction);
+        return Sort.by(aDirection, sort).and(Sort.by(aDirection, ID));
+    }
+
+    public Specification<CategoryJPAEntity> toSpecification() {
+        final var ascending = Sort.Direction.fromString(direction).isAscending();
+
+        return INSTANTS.contains(sort)
+                ? after(sort, value == null ? null : Instant.parse(value), ID, id, ascending)
+                : after(sort, value, ID, id, ascending);
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(new Error("'cursor' is invalid"));
+    }
+}
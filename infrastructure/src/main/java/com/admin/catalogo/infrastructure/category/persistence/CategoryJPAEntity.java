@@ -3,16 +3,34 @@ package com.admin.catalogo.infrastructure.category.persistence;
 import com.admin.catalogo.domain.category.Category;
 import com.admin.catalogo.domain.category.CategoryID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
+import javax.persistence.Version;
 import java.time.Instant;
 
+// Só vai para o cache de segundo nível com cache.hibernate.enabled=true (ver HibernateCacheConfig)
 @Entity
 @Table(name = "category")
-public class CategoryJPAEntity {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CategoryJPAEntity.CACHE_REGION)
+public class CategoryJPAEntity implements Persistable<String> {
+
+    public static final String CACHE_REGION = "category-entities";
+
     @Id
+    @Type(type = "com.admin.catalogo.infrastructure.category.persistence.BinaryUUIDType")
+    @Column(name = "id", columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -31,6 +49,15 @@ public class CategoryJPAEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // Com id atribuído e version primitivo o Spring Data não distingue novo de existente e o save
+    // faria merge (SELECT antes do INSERT). Instâncias criadas pela aplicação são novas até serem gravadas.
+    @Transient
+    private boolean isNew = true;
+
     public CategoryJPAEntity() {
     }
 
@@ -41,7 +68,8 @@ public class CategoryJPAEntity {
             boolean active,
             Instant createdAt,
             Instant updatedAt,
-            Instant deletedAt
+            Instant deletedAt,
+            long version
     ) {
         this.id = id;
         this.name = name;
@@ -50,6 +78,7 @@ public class CategoryJPAEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static CategoryJPAEntity from(Category aCategory) {
@@ -60,7 +89,8 @@ public class CategoryJPAEntity {
                 aCategory.isActive(),
                 aCategory.getCreatedAt(),
                 aCategory.getUpdatedAt(),
-                aCategory.getDeletedAt()
+                aCategory.getDeletedAt(),
+                aCategory.getVersion()
         );
     }
 
@@ -72,7 +102,8 @@ public class CategoryJPAEntity {
                 entity.isActive(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt(),
-                entity.getDeletedAt()
+                entity.getDeletedAt(),
+                entity.getVersion()
         );
     }
 
@@ -80,6 +111,18 @@ public class CategoryJPAEntity {
         return CategoryJPAEntity.toAggregate(this);
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
@@ -135,4 +178,12 @@ public class CategoryJPAEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
@@ -1,83 +1,368 @@
 package com.admin.catalogo.infrastructure.category.persistence;
 
 import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryChange;
+import com.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.admin.catalogo.domain.category.CategoryField;
 import com.admin.catalogo.domain.category.CategoryGateway;
 import com.admin.catalogo.domain.category.CategoryID;
 import com.admin.catalogo.domain.category.CategorySearchQuery;
+import com.admin.catalogo.domain.exceptions.ConflictException;
+import com.admin.catalogo.domain.exceptions.DomainException;
 import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.validation.Error;
+import com.admin.catalogo.infrastructure.category.CategoryPartialUpdateRepository;
 import com.admin.catalogo.infrastructure.category.CategoryRepository;
+import com.admin.catalogo.infrastructure.category.CategoryTombstoneRepository;
+import com.admin.catalogo.infrastructure.category.outbox.CategoryOutbox;
+import com.admin.catalogo.infrastructure.configuration.properties.ChangesProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import static com.admin.catalogo.infrastructure.utils.SpecificationUtils.after;
 import static com.admin.catalogo.infrastructure.utils.SpecificationUtils.like;
+import static com.admin.catalogo.infrastructure.utils.SpecificationUtils.matchAgainst;
 
 @Service
 public class CategoryMySQLGateway implements CategoryGateway {
 
+    private static final String RELEVANCE = "relevance";
+    private static final int FULLTEXT_MIN_TOKEN_SIZE = 3;
+    private static final long ESTIMATED_TOTALS_MAXIMUM_SIZE = 1_000;
+    private static final Duration ESTIMATED_TOTALS_TTL = Duration.ofSeconds(30);
+    private static final int CHANGES_MAX_LIMIT = 1_000;
+
+    private static final Comparator<CategoryChange> CHANGES_ORDER = Comparator
+            .comparing(CategoryChange::changedAt)
+            .thenComparing(aChange -> aChange.id().getValue());
+
+    private static final Map<CategoryField, Set<String>> COLUMNS = Map.of(
+            CategoryField.NAME, Set.of(CategoryPartialUpdateRepository.NAME),
+            CategoryField.DESCRIPTION, Set.of(CategoryPartialUpdateRepository.DESCRIPTION),
+            CategoryField.ACTIVE, Set.of(CategoryPartialUpdateRepository.ACTIVE, CategoryPartialUpdateRepository.DELETED_AT)
+    );
+
     private final CategoryRepository repository;
+    private final CategoryTombstoneRepository tombstoneRepository;
+    private final CategoryOutbox outbox;
+    private final Duration changesSettleTime;
 
-    public CategoryMySQLGateway(CategoryRepository repository) {
+    //Totais aproximados por termo de busca para total=estimate, evitando o COUNT (full scan com LIKE '%x%')
+    private final Cache<String, Long> estimatedTotals;
+
+    public CategoryMySQLGateway(CategoryRepository repository,
+                                CategoryTombstoneRepository tombstoneRepository,
+                                CategoryOutbox outbox,
+                                ChangesProperties categoryChangesProperties) {
         this.repository = repository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.outbox = outbox;
+        this.changesSettleTime = categoryChangesProperties.getSettleTime();
+        this.estimatedTotals = Caffeine.newBuilder()
+                .maximumSize(ESTIMATED_TOTALS_MAXIMUM_SIZE)
+                .expireAfterWrite(ESTIMATED_TOTALS_TTL)
+                .build();
     }
 
+    // CategoryJPAEntity é Persistable: o save vira persist, um único INSERT
+    // As escritas gravam o evento no category_outbox na mesma transação (ver CategoryOutboxRelay)
     @Override
+    @Transactional
     public Category create(Category aCategory) {
-        return save(aCategory);
+        final var created = this.repository.save(CategoryJPAEntity.from(aCategory)).toAggregate();
+        this.outbox.created(List.of(created));
+        return created;
     }
 
-    private Category save(final Category aCategory) {
-        return this.repository.save(CategoryJPAEntity.from(aCategory)).toAggregate();
+    @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> aCategories) {
+        this.repository.insertAll(aCategories.stream().map(CategoryJPAEntity::from).toList());
+        this.outbox.created(aCategories);
+        return aCategories;
     }
 
+    // Delete idempotente: id inexistente só afeta 0 linhas e não gera evento nem tombstone
     @Override
+    @Transactional
     public void deleteById(CategoryID categoryID) {
         String categoryIDValue = categoryID.getValue();
+        if (!BinaryUUIDs.isValid(categoryIDValue)) return;
 
-        boolean entityExists = this.repository.existsById(categoryIDValue);
-        if (entityExists) repository.deleteById(categoryIDValue);
+        if (this.repository.deleteOneById(categoryIDValue) > 0) {
+            this.tombstoneRepository.save(CategoryTombstoneJPAEntity.of(categoryID, Instant.now()));
+            this.outbox.deleted(categoryID);
+        }
     }
 
+    //Leituras em transação readOnly são roteadas para a réplica quando ela está habilitada
     @Override
+    @Transactional(readOnly = true)
     public Optional<Category> findById(CategoryID categoryID) {
+        if (!BinaryUUIDs.isValid(categoryID.getValue())) return Optional.empty();
+
         return repository.findById(categoryID.getValue())
                 .map(entity -> entity.toAggregate());
     }
 
+    // Transação de escrita: vai sempre ao primário, nunca à réplica
     @Override
+    @Transactional
+    public Optional<Category> findByIdForUpdate(final CategoryID categoryID) {
+        if (!BinaryUUIDs.isValid(categoryID.getValue())) return Optional.empty();
+
+        return repository.findById(categoryID.getValue())
+                .map(entity -> entity.toAggregate());
+    }
+
+    // Projeção só da coluna updated_at, usada pelo GET condicional (ETag/Last-Modified)
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Instant> findUpdatedAtById(final CategoryID categoryID) {
+        if (!BinaryUUIDs.isValid(categoryID.getValue())) return Optional.empty();
+
+        return repository.findUpdatedAtById(categoryID.getValue());
+    }
+
+    @Override
+    @Transactional
     public Category update(final Category aCategory) {
-        return save(aCategory);
+        if (!BinaryUUIDs.isValid(aCategory.getId().getValue())
+                || this.repository.updateIfVersionMatches(CategoryJPAEntity.from(aCategory)) == 0) {
+            throw ConflictException.with(Category.class, aCategory.getId());
+        }
+
+        aCategory.setVersion(aCategory.getVersion() + 1);
+        this.outbox.updated(aCategory);
+        return aCategory;
     }
 
+    // PATCH: grava só as colunas dos campos alterados, com a mesma verificação de versão do update completo
     @Override
+    @Transactional
+    public Category update(final Category aCategory, final Set<CategoryField> changedFields) {
+        if (changedFields.isEmpty()) return aCategory;
+
+        final var attributes = new HashSet<String>();
+        changedFields.forEach(field -> attributes.addAll(COLUMNS.get(field)));
+
+        if (!BinaryUUIDs.isValid(aCategory.getId().getValue())
+                || this.repository.updateColumnsIfVersionMatches(CategoryJPAEntity.from(aCategory), attributes) == 0) {
+            throw ConflictException.with(Category.class, aCategory.getId());
+        }
+
+        aCategory.setVersion(aCategory.getVersion() + 1);
+        this.outbox.updated(aCategory);
+        return aCategory;
+    }
+
+    // Transação readOnly própria (os use cases não abrem transação): o Hibernate usa FlushMode.MANUAL e a
+    // página vem por projeção direto para Category, sem entidades gerenciadas (ver CategoryProjection)
+    @Override
+    @Transactional(readOnly = true)
     public Pagination<Category> findAll(CategorySearchQuery aQuery) {
-        //Paginação
-        final var page = PageRequest.of(
+        //O mesmo termo normalizado monta o filtro e a chave do cache de totais estimados
+        final var terms = normalize(aQuery.terms());
+        final var fullTextQuery = fullTextQuery(terms);
+        final var termsFilter = Specification.where(termsSpecification(terms, fullTextQuery));
+        final var perPage = aQuery.perPage();
+        final var byRelevance = RELEVANCE.equals(aQuery.sort());
+
+        final Specification<CategoryJPAEntity> whereClause;
+        final Sort sort;
+        final int offset;
+
+        if (perPage < 1 || perPage >= Integer.MAX_VALUE) {
+            throw DomainException.with(new Error("'perPage' must be greater than zero"));
+        }
+
+        if (aQuery.hasCursor()) {
+            //Keyset: filtra a partir do último registro da página anterior ao invés de usar OFFSET
+            final var cursor = CategoryCursor.decode(aQuery.cursor());
+
+            if (!cursor.matches(aQuery.sort(), aQuery.direction())) {
+                throw DomainException.with(new Error("'cursor' does not match the requested sort and direction"));
+            }
+
+            whereClause = termsFilter.and(cursor.toSpecification());
+            sort = cursor.toSort();
+            offset = 0;
+        } else {
+            //Paginação
+            final var direction = Sort.Direction.fromString(aQuery.direction());
+
+            //Sem busca FULLTEXT não há score, então a relevância cai para a ordenação por nome
+            final var sortProperty = byRelevance ? "name" : aQuery.sort();
+
+            whereClause = termsFilter;
+            sort = Sort.by(direction, sortProperty).and(Sort.by(direction, "id"));
+            offset = offset(aQuery.page(), perPage);
+        }
+
+        //Um registro a mais indica se existe próxima página sem precisar do COUNT
+        final var rows = byRelevance && fullTextQuery != null
+                ? this.repository.findSliceByRelevance(
+                        whereClause, fullTextQuery, Sort.Direction.fromString(aQuery.direction()).isAscending(), offset, perPage + 1)
+                : this.repository.findSlice(whereClause, sort, offset, perPage + 1);
+        final var hasMore = rows.size() > perPage;
+        final var items = hasMore ? rows.subList(0, perPage) : rows;
+
+        final var nextCursor = hasMore && CategoryCursor.supports(aQuery.sort())
+                ? nextCursor(items, aQuery)
+                : null;
+
+        return new Pagination<>(
                 aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+                perPage,
+                total(aQuery, terms, termsFilter, offset, items.size(), hasMore),
+                items,
+                nextCursor,
+                hasMore
         );
+    }
+
+    // Feed de alterações em ordem (changedAt, id): categorias pelo índice (updated_at, id) e remoções pelo
+    // category_tombstone, cada uma lida só a partir do token e no máximo limit + 1 linhas, depois intercaladas.
+    // Alterações mais novas que o settle time ficam para a próxima chamada: uma transação que ainda não
+    // commitou pode gravar um updated_at anterior ao de outra já visível, e o token passaria por cima dela.
+    // A garantia vale só enquanto transação de escrita + diferença de relógio entre instâncias < settle time.
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<CategoryChange> findChanges(final CategoryChangesQuery aQuery) {
+        final var limit = aQuery.limit();
+        if (limit < 1 || limit > CHANGES_MAX_LIMIT) {
+            throw DomainException.with(new Error("'limit' must be between 1 and %d".formatted(CHANGES_MAX_LIMIT)));
+        }
+
+        final var since = aQuery.hasSince() ? CategoryChangesToken.decode(aQuery.since()) : null;
+        final var until = Instant.now().minus(this.changesSettleTime);
+        final var fetchSize = limit + 1;
+
+        Specification<CategoryJPAEntity> upToUntil = (root, query, cb) ->
+                cb.lessThanOrEqualTo(root.<Instant>get("updatedAt"), until);
+        final var whereClause = since == null
+                ? Specification.where(upToUntil)
+                : Specification.where(upToUntil).and(after("updatedAt", since.at(), "id", since.id(), true));
+
+        final var categories = this.repository.findSlice(
+                whereClause, Sort.by("updatedAt").and(Sort.by("id")), 0, fetchSize);
+
+        final var tombstones = since == null
+                ? this.tombstoneRepository.findUntil(until, PageRequest.ofSize(fetchSize))
+                : this.tombstoneRepository.findAfter(since.at(), since.id(), until, PageRequest.ofSize(fetchSize));
+
+        final var changes = new ArrayList<CategoryChange>(categories.size() + tombstones.size());
+        categories.forEach(aCategory -> changes.add(CategoryChange.changed(aCategory)));
+        tombstones.forEach(tombstone -> changes.add(tombstone.toChange()));
+        changes.sort(CHANGES_ORDER);
+
+        final var hasMore = changes.size() > limit;
+        final var items = hasMore ? changes.subList(0, limit) : changes;
+
+        //Sem alterações novas o token continua o mesmo
+        final var next = items.isEmpty()
+                ? (aQuery.hasSince() ? aQuery.since() : null)
+                : CategoryChangesToken.from(items.get(items.size() - 1)).encode();
+
+        return new Pagination<>(0, limit, Pagination.UNKNOWN_TOTAL, List.copyOf(items), next, hasMore);
+    }
+
+    //page * perPage em long: o OFFSET do JPA é int, então páginas além dele são rejeitadas
+    private static int offset(final int page, final int perPage) {
+        final var offset = (long) page * perPage;
+        if (page < 0 || offset > Integer.MAX_VALUE) {
+            throw DomainException.with(new Error("'page' must be between 0 and %d".formatted(Integer.MAX_VALUE / perPage)));
+        }
+        return (int) offset;
+    }
+
+    private long total(final CategorySearchQuery aQuery,
+                       final String terms,
+                       final Specification<CategoryJPAEntity> termsFilter,
+                       final int offset,
+                       final int itemsCount,
+                       final boolean hasMore) {
+        return switch (aQuery.total()) {
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+            case ESTIMATE -> this.estimatedTotals.get(terms, key -> this.repository.count(termsFilter));
+            case EXACT -> {
+                //Mesma otimização do PageableExecutionUtils: a última página já revela o total
+                if (!aQuery.hasCursor() && !hasMore && (offset == 0 || itemsCount > 0)) yield (long) offset + itemsCount;
+                yield this.repository.count(termsFilter);
+            }
+        };
+    }
+
+    private static String normalize(final String terms) {
+        return terms == null ? "" : terms.trim().toUpperCase();
+    }
+
+    //Busca dinamica pelo criterio terms (name ou description), pelo índice FULLTEXT quando disponível
+    private static Specification<CategoryJPAEntity> termsSpecification(final String terms, final String fullTextQuery) {
+        if (fullTextQuery == null) return termsLike(terms);
+
+        return Specification.<CategoryJPAEntity>where(matchAgainst("name", "description", fullTextQuery))
+                .and(shortTokensLike(terms));
+    }
+
+    //Cada termo vira um prefixo obrigatório (+termo*). Termos menores que o innodb_ft_min_token_size
+    //não são indexados: continuam obrigatórios por um LIKE junto do MATCH (ver shortTokensLike), e se só
+    //sobrarem eles a busca inteira volta para o LIKE.
+    private String fullTextQuery(final String terms) {
+        if (terms == null || terms.isBlank() || !this.repository.supportsFullText()) return null;
 
-        //Busca dinamica pelo criterio terms (name ou description)
-        final var specifications = Optional.ofNullable(aQuery.terms())
-                .filter(terms -> !terms.isBlank() && !terms.isEmpty())
+        final var tokens = tokens(terms)
+                .filter(token -> token.length() >= FULLTEXT_MIN_TOKEN_SIZE)
+                .map(token -> "+" + token + "*")
+                .toList();
+
+        return tokens.isEmpty() ? null : String.join(" ", tokens);
+    }
+
+    //"TV Samsung" não pode virar só +SAMSUNG*: cada token curto também precisa aparecer no name ou na description
+    static Specification<CategoryJPAEntity> shortTokensLike(final String terms) {
+        return tokens(terms)
+                .filter(token -> token.length() < FULLTEXT_MIN_TOKEN_SIZE)
+                .map(CategoryMySQLGateway::termsLike)
+                .reduce(Specification::and)
+                .orElse(null);
+    }
+
+    private static Stream<String> tokens(final String terms) {
+        return Arrays.stream(terms.split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty());
+    }
+
+    private static Specification<CategoryJPAEntity> termsLike(final String terms) {
+        return Optional.ofNullable(terms)
+                .filter(term -> !term.isBlank() && !term.isEmpty())
                 .map(term -> {
                     Specification<CategoryJPAEntity> nameLike = like("name", term);
                     Specification<CategoryJPAEntity> descriptionLike = like("description", term);
                     return nameLike.or(descriptionLike);
                 })
                 .orElse(null);
+    }
 
-        final var pageResult = this.repository.findAll(Specification.where(specifications), page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(entity -> entity.toAggregate()).toList()
-        );
+    private static String nextCursor(final List<Category> items, final CategorySearchQuery aQuery) {
+        final var last = items.get(items.size() - 1);
+        return CategoryCursor.from(last, aQuery.sort(), aQuery.direction()).encode();
     }
 }
@@ -0,0 +1,67 @@
+package com.admin.catalogo.infrastructure.category.persistence;
+
+import com.admin.catalogo.domain.category.CategoryChange;
+import com.admin.catalogo.domain.category.CategoryID;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import java.time.Instant;
+
+// Registro de uma categoria removida, para o feed de alterações conseguir informar a remoção
+@Entity
+@Table(name = "category_tombstone")
+public class CategoryTombstoneJPAEntity implements Persistable<String> {
+    @Id
+    @Type(type = "com.admin.catalogo.infrastructure.category.persistence.BinaryUUIDType")
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    private String id;
+
+    @Column(name = "deleted_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant deletedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public CategoryTombstoneJPAEntity() {
+    }
+
+    private CategoryTombstoneJPAEntity(final String id, final Instant deletedAt) {
+        this.id = id;
+        this.deletedAt = deletedAt;
+    }
+
+    public static CategoryTombstoneJPAEntity of(final CategoryID anId, final Instant deletedAt) {
+        return new CategoryTombstoneJPAEntity(anId.getValue(), deletedAt);
+    }
+
+    public CategoryChange toChange() {
+        return CategoryChange.deleted(CategoryID.from(id), deletedAt);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+}
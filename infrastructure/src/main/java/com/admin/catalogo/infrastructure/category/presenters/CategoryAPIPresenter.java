@@ -1,7 +1,9 @@
 package com.admin.catalogo.infrastructure.category.presenters;
 
+import com.admin.catalogo.application.category.category.retrieve.changes.CategoryChangeOutput;
 import com.admin.catalogo.application.category.category.retrieve.get.CategoryOutput;
 import com.admin.catalogo.application.category.category.retrieve.list.CategoryListOutput;
+import com.admin.catalogo.infrastructure.category.models.CategoryChangeResponse;
 import com.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 
@@ -31,4 +33,18 @@ public interface CategoryAPIPresenter {
                 categoryOutput.deletedAt()
         );
     }
+
+    static CategoryChangeResponse present(CategoryChangeOutput changeOutput) {
+        return new CategoryChangeResponse(
+                changeOutput.id().getValue(),
+                changeOutput.deleted(),
+                changeOutput.changedAt(),
+                changeOutput.name(),
+                changeOutput.description(),
+                changeOutput.isActive(),
+                changeOutput.createdAt(),
+                changeOutput.updatedAt(),
+                changeOutput.deletedAt()
+        );
+    }
 }
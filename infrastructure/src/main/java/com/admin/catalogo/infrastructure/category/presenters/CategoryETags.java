@@ -0,0 +1,85 @@
+package com.admin.catalogo.infrastructure.category.presenters;
+
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// ETags fortes: toda alteração da categoria (update, activate, deactivate) avança o updatedAt.
+// A precisão é de microssegundos, a mesma que o DATETIME do MySQL guarda.
+public interface CategoryETags {
+
+    static String of(final String anId, final Instant updatedAt) {
+        return "\"%s-%x\"".formatted(anId, micros(updatedAt));
+    }
+
+    // Lê o updatedAt de um ETag gerado por of(id, updatedAt); vazio se for de outra categoria ou inválido
+    static Optional<Instant> parse(final String anId, final String anETag) {
+        final var prefix = "\"" + anId + "-";
+        if (anETag == null || !anETag.startsWith(prefix) || !anETag.endsWith("\"") || anETag.length() == prefix.length() + 1) {
+            return Optional.empty();
+        }
+
+        try {
+            final var micros = Long.parseUnsignedLong(anETag.substring(prefix.length(), anETag.length() - 1), 16);
+            return Optional.of(Instant.EPOCH.plus(micros, ChronoUnit.MICROS));
+        } catch (final NumberFormatException ex) {
+            return Optional.empty();
+        }
+    }
+
+    // Mesma regra do checkNotModified (RFC 7232): If-None-Match tem precedência, com comparação fraca,
+    // e só sem ele vale o If-Modified-Since, na precisão de segundos do header
+    static boolean notModified(final HttpHeaders conditions, final String anETag, final Instant updatedAt) {
+        try {
+            final var ifNoneMatch = conditions.getIfNoneMatch();
+            if (!ifNoneMatch.isEmpty()) {
+                return ifNoneMatch.stream().anyMatch(candidate -> "*".equals(candidate) || weak(candidate).equals(weak(anETag)));
+            }
+
+            final var ifModifiedSince = conditions.getIfModifiedSince();
+            return ifModifiedSince >= 0 && updatedAt.getEpochSecond() * 1000 <= ifModifiedSince;
+        } catch (final IllegalArgumentException ex) {
+            // Header malformado é ignorado, como no checkNotModified
+            return false;
+        }
+    }
+
+    // Hash da página inteira (metadados + id/updatedAt de cada item), calculado antes da serialização
+    static String of(final Pagination<CategoryListResponse> aPage) {
+        final var digest = sha256();
+        update(digest, "%d|%d|%d|%s|%b".formatted(aPage.currentPage(), aPage.perPage(), aPage.total(), aPage.nextCursor(), aPage.hasMore()));
+        for (final var item : aPage.items()) {
+            update(digest, "|%s-%x".formatted(item.id(), micros(item.updatedAt())));
+        }
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    private static String weak(final String anETag) {
+        return anETag.startsWith("W/") ? anETag.substring(2) : anETag;
+    }
+
+    private static long micros(final Instant anInstant) {
+        return TimeUnit.SECONDS.toMicros(anInstant.getEpochSecond()) + TimeUnit.NANOSECONDS.toMicros(anInstant.getNano());
+    }
+
+    private static void update(final MessageDigest digest, final String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.admin.catalogo.infrastructure.category.reactive;
+
+import com.admin.catalogo.domain.category.AsyncCategoryGateway;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.category.CategorySearchQuery;
+import com.admin.catalogo.domain.exceptions.ConflictException;
+import com.admin.catalogo.domain.exceptions.DomainException;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.TotalMode;
+import com.admin.catalogo.domain.validation.Error;
+import com.admin.catalogo.infrastructure.category.outbox.CategoryChangeType;
+import com.admin.catalogo.infrastructure.category.outbox.CategoryOutbox;
+import com.admin.catalogo.infrastructure.category.persistence.BinaryUUIDs;
+import io.r2dbc.spi.Row;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+// Acesso não bloqueante ao MySQL via R2DBC. Mesma tabela do CategoryMySQLGateway (JPA), com SQL escrito à mão.
+// Sem FULLTEXT nem keyset: a relevância cai para a ordenação por nome e cursor é rejeitado.
+// As escritas gravam o evento do outbox (e o tombstone no delete) na mesma transação R2DBC, como o gateway JPA.
+public class CategoryR2dbcGateway implements AsyncCategoryGateway {
+
+    private static final String INSERT_OUTBOX = "INSERT INTO category_outbox (category_id, type, payload, occurred_at) " +
+            "VALUES (:categoryId, :type, :payload, :occurredAt)";
+
+    private static final String COLUMNS = "id, name, description, active, created_at, updated_at, deleted_at, version";
+
+    private static final Map<String, String> SORTABLE = Map.of(
+            "id", "id",
+            "name", "name",
+            "description", "description",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at",
+            "relevance", "name"
+    );
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    public CategoryR2dbcGateway(final DatabaseClient databaseClient, final TransactionalOperator transactionalOperator) {
+        this.databaseClient = Objects.requireNonNull(databaseClient);
+        this.transactionalOperator = Objects.requireNonNull(transactionalOperator);
+    }
+
+    @Override
+    public CompletableFuture<Category> create(final Category aCategory) {
+        final var spec = this.databaseClient.sql("INSERT INTO category (" + COLUMNS + ") " +
+                        "VALUES (:id, :name, :description, :active, :createdAt, :updatedAt, :deletedAt, :version)");
+
+        return bind(spec, aCategory)
+                .fetch()
+                .rowsUpdated()
+                .then(appendOutbox(aCategory.getId(), CategoryChangeType.CREATED, CategoryOutbox.payload(aCategory)))
+                .as(this.transactionalOperator::transactional)
+                .thenReturn(aCategory)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteById(final CategoryID categoryID) {
+        if (!BinaryUUIDs.isValid(categoryID.getValue())) return CompletableFuture.completedFuture(null);
+
+        // Id inexistente só afeta 0 linhas e não gera tombstone nem evento
+        return this.databaseClient.sql("DELETE FROM category WHERE id = :id")
+                .bind("id", BinaryUUIDs.toBytes(categoryID.getValue()))
+                .fetch()
+                .rowsUpdated()
+                .flatMap(rows -> rows == 0
+                        ? Mono.<Void>empty()
+                        : tombstone(categoryID).then(appendOutbox(categoryID, CategoryChangeType.DELETED, null)))
+                .as(this.transactionalOperator::transactional)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Optional<Category>> findById(final CategoryID categoryID) {
+        if (!BinaryUUIDs.isValid(categoryID.getValue())) return CompletableFuture.completedFuture(Optional.empty());
+
+        return this.databaseClient.sql("SELECT " + COLUMNS + " FROM category WHERE id = :id")
+                .bind("id", BinaryUUIDs.toBytes(categoryID.getValue()))
+                .map((row, metadata) -> toAggregate(row))
+                .one()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .toFuture();
+    }
+
+    // Mesma verificação de versão do CategoryMySQLGateway: 0 linhas alteradas é conflito
+    @Override
+    public CompletableFuture<Category> update(final Category aCategory) {
+        if (!BinaryUUIDs.isValid(aCategory.getId().getValue())) {
+            return CompletableFuture.failedFuture(ConflictException.with(Category.class, aCategory.getId()));
+        }
+
+        final var spec = this.databaseClient.sql("UPDATE category SET name = :name, description = :description, " +
+                        "active = :active, created_at = :createdAt, updated_at = :updatedAt, deleted_at = :deletedAt, " +
+                        "version = version + 1 WHERE id = :id AND version = :version");
+
+        return bind(spec, aCategory)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(rows -> {
+                    if (rows == 0) return Mono.<Category>error(ConflictException.with(Category.class, aCategory.getId()));
+
+                    aCategory.setVersion(aCategory.getVersion() + 1);
+                    return appendOutbox(aCategory.getId(), CategoryChangeType.UPDATED, CategoryOutbox.payload(aCategory))
+                            .thenReturn(aCategory);
+                })
+                .as(this.transactionalOperator::transactional)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Pagination<Category>> findAll(final CategorySearchQuery aQuery) {
+        if (aQuery.hasCursor()) {
+            return CompletableFuture.failedFuture(
+                    DomainException.with(new Error("'cursor' is not supported by the reactive endpoints")));
+        }
+
+        final var column = SORTABLE.get(aQuery.sort());
+        if (column == null) {
+            return CompletableFuture.failedFuture(
+                    DomainException.with(new Error("'sort' %s is not supported".formatted(aQuery.sort()))));
+        }
+
+        final var direction = "desc".equalsIgnoreCase(aQuery.direction()) ? "DESC" : "ASC";
+        // Mesmo filtro do gateway JPA (SpecificationUtils.like): sem diferenciar maiúsculas, independente da collation
+        final var terms = aQuery.terms() == null || aQuery.terms().isBlank() ? null : "%" + aQuery.terms().trim().toUpperCase() + "%";
+        final var where = terms == null ? "" : " WHERE UPPER(name) LIKE :terms OR UPPER(description) LIKE :terms";
+        final var perPage = aQuery.perPage();
+        final var offset = (long) aQuery.page() * perPage;
+
+        var itemsSpec = this.databaseClient.sql("SELECT " + COLUMNS + " FROM category" + where +
+                        " ORDER BY " + column + " " + direction + ", id " + direction +
+                        " LIMIT :limit OFFSET :offset")
+                .bind("limit", perPage + 1)
+                .bind("offset", offset);
+        if (terms != null) itemsSpec = itemsSpec.bind("terms", terms);
+
+        final var rows = itemsSpec.map((row, metadata) -> toAggregate(row))
+                .all()
+                .collectList();
+
+        final Mono<Long> total;
+        if (aQuery.total() == TotalMode.NONE) {
+            total = Mono.just(Pagination.UNKNOWN_TOTAL);
+        } else {
+            var countSpec = this.databaseClient.sql("SELECT COUNT(*) AS total FROM category" + where);
+            if (terms != null) countSpec = countSpec.bind("terms", terms);
+            total = countSpec.map((row, metadata) -> row.get("total", Long.class)).one();
+        }
+
+        return Mono.zip(rows, total)
+                .map(tuple -> {
+                    final var items = tuple.getT1();
+                    final var hasMore = items.size() > perPage;
+
+                    return new Pagination<>(
+                            aQuery.page(),
+                            perPage,
+                            tuple.getT2(),
+                            hasMore ? items.subList(0, perPage) : items,
+                            null,
+                            hasMore
+                    );
+                })
+                .toFuture();
+    }
+
+    private Mono<Void> tombstone(final CategoryID categoryID) {
+        return this.databaseClient.sql("INSERT INTO category_tombstone (id, deleted_at) VALUES (:id, :deletedAt)")
+                .bind("id", BinaryUUIDs.toBytes(categoryID.getValue()))
+                .bind("deletedAt", toDateTime(Instant.now()))
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    private Mono<Void> appendOutbox(final CategoryID categoryID, final CategoryChangeType aType, final String aPayload) {
+        final var spec = this.databaseClient.sql(INSERT_OUTBOX)
+                .bind("categoryId", BinaryUUIDs.toBytes(categoryID.getValue()))
+                .bind("type", aType.name())
+                .bind("occurredAt", toDateTime(Instant.now()));
+
+        return (aPayload == null ? spec.bindNull("payload", String.class) : spec.bind("payload", aPayload))
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(final DatabaseClient.GenericExecuteSpec spec,
+                                                          final Category aCategory) {
+        var bound = spec
+                .bind("id", BinaryUUIDs.toBytes(aCategory.getId().getValue()))
+                .bind("name", aCategory.getName())
+                .bind("active", aCategory.isActive())
+                .bind("createdAt", toDateTime(aCategory.getCreatedAt()))
+                .bind("updatedAt", toDateTime(aCategory.getUpdatedAt()))
+                .bind("version", aCategory.getVersion());
+
+        bound = aCategory.getDescription() == null
+                ? bound.bindNull("description", String.class)
+                : bound.bind("description", aCategory.getDescription());
+
+        return aCategory.getDeletedAt() == null
+                ? bound.bindNull("deletedAt", LocalDateTime.class)
+                : bound.bind("deletedAt", toDateTime(aCategory.getDeletedAt()));
+    }
+
+    private static Category toAggregate(final Row row) {
+        return Category.with(
+                CategoryID.from(BinaryUUIDs.fromBytes(row.get("id", byte[].class))),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                Boolean.TRUE.equals(row.get("active", Boolean.class)),
+                toInstant(row.get("created_at", LocalDateTime.class)),
+                toInstant(row.get("updated_at", LocalDateTime.class)),
+                toInstant(row.get("deleted_at", LocalDateTime.class)),
+                Objects.requireNonNullElse(row.get("version", Long.class), 0L)
+        );
+    }
+
+    // As colunas DATETIME não guardam fuso; a aplicação grava tudo em UTC (serverTimezone=UTC no JDBC)
+    private static LocalDateTime toDateTime(final Instant anInstant) {
+        return LocalDateTime.ofInstant(anInstant, ZoneOffset.UTC);
+    }
+
+    private static Instant toInstant(final LocalDateTime aDateTime) {
+        return aDateTime == null ? null : aDateTime.toInstant(ZoneOffset.UTC);
+    }
+}
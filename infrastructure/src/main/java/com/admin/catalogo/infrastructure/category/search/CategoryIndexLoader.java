@@ -0,0 +1,77 @@
+package com.admin.catalogo.infrastructure.category.search;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.infrastructure.category.CategoryRepository;
+import com.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.admin.catalogo.infrastructure.category.outbox.CategoryChangeEvent;
+import com.admin.catalogo.infrastructure.category.outbox.CategoryChangeType;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Objects;
+
+// Reconstrói o índice a partir do MySQL lendo a tabela em stream (cursor no servidor), sem carregar tudo em memória.
+// Depois da carga o índice acompanha as escritas de todas as instâncias pelos eventos do category_outbox (apply).
+public class CategoryIndexLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryIndexLoader.class);
+
+    private final CategoryRepository repository;
+    private final EntityManager entityManager;
+    private final CategoryInvertedIndex index;
+
+    public CategoryIndexLoader(final CategoryRepository repository,
+                               final EntityManager entityManager,
+                               final CategoryInvertedIndex index) {
+        this.repository = Objects.requireNonNull(repository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.index = Objects.requireNonNull(index);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        final var startedAt = System.nanoTime();
+
+        try (final var entities = this.repository.streamAll()) {
+            entities.forEach(this::load);
+        }
+
+        this.index.markReady();
+
+        log.info("Category search index loaded with {} documents in {} ms",
+                this.index.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // Um evento atrasado não sobrescreve uma versão mais nova já indexada (ver CategoryInvertedIndex.load)
+    public void apply(final CategoryChangeEvent event) {
+        final var anId = CategoryID.from(event.categoryId());
+        if (event.type() == CategoryChangeType.DELETED) {
+            this.index.remove(anId);
+            return;
+        }
+
+        final var aCategory = Json.readValue(event.payload(), CategoryResponse.class);
+        this.index.load(Category.with(
+                anId,
+                aCategory.name(),
+                aCategory.description(),
+                aCategory.active(),
+                aCategory.createdAt(),
+                aCategory.updatedAt(),
+                aCategory.deletedAt()
+        ));
+    }
+
+    private void load(final CategoryJPAEntity anEntity) {
+        this.index.load(anEntity.toAggregate());
+        this.entityManager.detach(anEntity);
+    }
+}
@@ -0,0 +1,94 @@
+package com.admin.catalogo.infrastructure.category.search;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryChange;
+import com.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.admin.catalogo.domain.category.CategoryField;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.category.CategorySearchQuery;
+import com.admin.catalogo.domain.pagination.Pagination;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+// Atende o findAll pelo índice invertido em memória e mantém o índice em sincronia com as escritas.
+// Busca por cursor ou por relevância continua no banco, assim como tudo enquanto o índice é carregado.
+public class CategoryIndexedGateway implements CategoryGateway {
+
+    private static final String RELEVANCE = "relevance";
+
+    private final CategoryGateway delegate;
+    private final CategoryInvertedIndex index;
+
+    public CategoryIndexedGateway(final CategoryGateway delegate, final CategoryInvertedIndex index) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.index = Objects.requireNonNull(index);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var created = this.delegate.create(aCategory);
+        this.index.index(created);
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var created = this.delegate.createAll(aCategories);
+        created.forEach(this.index::index);
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID categoryID) {
+        this.delegate.deleteById(categoryID);
+        this.index.remove(categoryID);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID categoryID) {
+        return this.delegate.findById(categoryID);
+    }
+
+    @Override
+    public Optional<Category> findByIdForUpdate(final CategoryID categoryID) {
+        return this.delegate.findByIdForUpdate(categoryID);
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CategoryID categoryID) {
+        return this.delegate.findUpdatedAtById(categoryID);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        final var updated = this.delegate.update(aCategory);
+        this.index.index(updated);
+        return updated;
+    }
+
+    @Override
+    public Category update(final Category aCategory, final Set<CategoryField> changedFields) {
+        final var updated = this.delegate.update(aCategory, changedFields);
+        this.index.index(updated);
+        return updated;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        if (!this.index.isReady() || aQuery.hasCursor() || RELEVANCE.equals(aQuery.sort())) {
+            return this.delegate.findAll(aQuery);
+        }
+
+        return this.index.search(aQuery);
+    }
+
+    @Override
+    public Pagination<CategoryChange> findChanges(final CategoryChangesQuery aQuery) {
+        return this.delegate.findChanges(aQuery);
+    }
+}
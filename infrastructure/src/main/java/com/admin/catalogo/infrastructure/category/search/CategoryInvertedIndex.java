@@ -0,0 +1,251 @@
+package com.admin.catalogo.infrastructure.category.search;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.category.CategorySearchQuery;
+import com.admin.catalogo.domain.exceptions.DomainException;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.TotalMode;
+import com.admin.catalogo.domain.validation.Error;
+
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+// Índice invertido em memória sobre name/description. Cada documento recebe um docId crescente,
+// então as postings são arrays de int já ordenados; update é remoção + nova inserção.
+public class CategoryInvertedIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int COMPACTION_THRESHOLD = 1_024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<CategoryID, Integer> docIds = new HashMap<>();
+    private final List<Category> documents = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+
+    // Enquanto o índice é carregado do banco, remoções feitas pela aplicação não podem ser desfeitas pela carga
+    private final Set<CategoryID> removedWhileLoading = new HashSet<>();
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void index(final Category aCategory) {
+        lock.writeLock().lock();
+        try {
+            upsert(aCategory);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final CategoryID anId) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) removedWhileLoading.add(anId);
+            unindex(anId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Carga inicial e eventos do outbox: não sobrescrevem versões iguais ou mais novas já indexadas pela aplicação
+    public void load(final Category aCategory) {
+        lock.writeLock().lock();
+        try {
+            if (removedWhileLoading.contains(aCategory.getId())) return;
+
+            final var docId = docIds.get(aCategory.getId());
+            if (docId != null && !documents.get(docId).getUpdatedAt().isBefore(aCategory.getUpdatedAt())) return;
+
+            upsert(aCategory);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            removedWhileLoading.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Pagination<Category> search(final CategorySearchQuery aQuery) {
+        final var comparator = comparator(aQuery.sort(), aQuery.direction());
+        final var queryTokens = tokenize(aQuery.terms());
+
+        final List<Category> matches;
+
+        lock.readLock().lock();
+        try {
+            final var docs = matching(queryTokens);
+            matches = new ArrayList<>(docs.cardinality());
+            for (int docId = docs.nextSetBit(0); docId >= 0; docId = docs.nextSetBit(docId + 1)) {
+                matches.add(documents.get(docId));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(comparator);
+
+        final var perPage = aQuery.perPage();
+        final var from = Math.min((long) aQuery.page() * perPage, matches.size());
+        final var to = Math.min(from + perPage, matches.size());
+
+        final var items = matches.subList((int) from, (int) to).stream()
+                .map(Category::clone)
+                .toList();
+
+        return new Pagination<>(
+                aQuery.page(),
+                perPage,
+                aQuery.total() == TotalMode.NONE ? Pagination.UNKNOWN_TOTAL : matches.size(),
+                items,
+                null,
+                to < matches.size()
+        );
+    }
+
+    // Todos os termos da busca precisam casar (AND), cada um como prefixo de algum token indexado (OR)
+    private BitSet matching(final List<String> queryTokens) {
+        final var result = (BitSet) live.clone();
+
+        for (final var queryToken : queryTokens) {
+            final var tokenDocs = new BitSet();
+            terms.subMap(queryToken, true, queryToken + Character.MAX_VALUE, false)
+                    .values()
+                    .forEach(postings -> postings.addTo(tokenDocs));
+
+            result.and(tokenDocs);
+            if (result.isEmpty()) break;
+        }
+
+        return result;
+    }
+
+    private void upsert(final Category aCategory) {
+        unindex(aCategory.getId());
+
+        final var snapshot = aCategory.clone();
+        final var docId = documents.size();
+
+        documents.add(snapshot);
+        docIds.put(snapshot.getId(), docId);
+        live.set(docId);
+
+        final var tokens = new HashSet<String>();
+        tokens.addAll(tokenize(snapshot.getName()));
+        tokens.addAll(tokenize(snapshot.getDescription()));
+        tokens.forEach(token -> terms.computeIfAbsent(token, t -> new Postings()).add(docId));
+
+        compactIfNeeded();
+    }
+
+    private void unindex(final CategoryID anId) {
+        final var docId = docIds.remove(anId);
+        if (docId == null) return;
+
+        live.clear(docId);
+        documents.set(docId, null);
+    }
+
+    // Remoções só desligam o bit do documento; quando metade dos docIds está morta o índice é refeito
+    private void compactIfNeeded() {
+        final var dead = documents.size() - live.cardinality();
+        if (dead < COMPACTION_THRESHOLD || dead < documents.size() / 2) return;
+
+        final var alive = documents.stream().filter(doc -> doc != null).toList();
+
+        docIds.clear();
+        documents.clear();
+        live.clear();
+        terms.clear();
+
+        alive.forEach(this::upsert);
+    }
+
+    static List<String> tokenize(final String text) {
+        if (text == null || text.isBlank()) return List.of();
+
+        final var folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        return Arrays.stream(SEPARATORS.split(folded))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    // Mesma ordenação do MySQL: comparação sem case e NULL primeiro no asc, desempate pelo id
+    private static Comparator<Category> comparator(final String aSort, final String aDirection) {
+        final var ascending = !"desc".equalsIgnoreCase(aDirection);
+
+        final Comparator<Category> bySort = switch (aSort == null ? "name" : aSort) {
+            case "name" -> nullsFirst(Category::getName, String.CASE_INSENSITIVE_ORDER);
+            case "description" -> nullsFirst(Category::getDescription, String.CASE_INSENSITIVE_ORDER);
+            case "createdAt" -> nullsFirst(Category::getCreatedAt, Comparator.<Instant>naturalOrder());
+            case "updatedAt" -> nullsFirst(Category::getUpdatedAt, Comparator.<Instant>naturalOrder());
+            case "id" -> Comparator.comparing(aCategory -> aCategory.getId().getValue());
+            default -> throw DomainException.with(new Error("'sort' %s is not supported".formatted(aSort)));
+        };
+
+        final Comparator<Category> byId = Comparator.comparing(aCategory -> aCategory.getId().getValue());
+        final var comparator = bySort.thenComparing(byId);
+
+        return ascending ? comparator : comparator.reversed();
+    }
+
+    private static <U> Comparator<Category> nullsFirst(final Function<Category, U> extractor,
+                                                       final Comparator<U> comparator) {
+        return Comparator.comparing(extractor, Comparator.nullsFirst(comparator));
+    }
+
+    private static final class Postings {
+        private int[] docIds = new int[4];
+        private int size;
+
+        void add(final int docId) {
+            if (size == docIds.length) docIds = Arrays.copyOf(docIds, size << 1);
+            docIds[size++] = docId;
+        }
+
+        void addTo(final BitSet bitSet) {
+            for (int i = 0; i < size; i++) bitSet.set(docIds[i]);
+        }
+    }
+}
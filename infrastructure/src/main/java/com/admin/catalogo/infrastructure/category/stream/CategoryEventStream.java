@@ -0,0 +1,341 @@
+package com.admin.catalogo.infrastructure.category.stream;
+
+import com.admin.catalogo.infrastructure.category.outbox.CategoryChangeEvent;
+import com.admin.catalogo.infrastructure.category.outbox.CategoryChangeType;
+import com.admin.catalogo.infrastructure.category.persistence.BinaryUUIDs;
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Repassa as linhas do category_outbox para as conexões SSE de GET /categories/stream.
+// Cada instância lê a tabela direto (e não os lotes que o seu relay drenou), então todas entregam os mesmos eventos
+// com o mesmo id, e o Last-Event-ID funciona ao reconectar em qualquer instância enquanto a linha estiver retida
+// (outbox.categories.retention). Se ela já foi removida o cliente recebe "reset" e deve ressincronizar por
+// GET /categories/changes.
+// O AUTO_INCREMENT não segue a ordem de commit: um id só é entregue depois de visto como MAX(id) há mais que o
+// commit grace, tempo em que as transações que reservaram ids menores já commitaram (ou desistiram).
+// Uma única thread lê o banco, faz o replay e distribui; cada cliente tem uma fila limitada esvaziada pelo pool de
+// envio. Um cliente lento não atrasa os demais e, se a fila dele enche, é desconectado e reconecta pelo Last-Event-ID.
+// Os listeners recebem os mesmos eventos, na thread do dispatcher: é por eles que os caches e o índice em memória desta
+// instância enxergam as escritas das outras.
+public class CategoryEventStream implements AutoCloseable {
+
+    public static final String RESET_EVENT = "reset";
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryEventStream.class);
+
+    private static final String SELECT_MAX_ID = "SELECT COALESCE(MAX(id), 0) FROM category_outbox";
+    private static final String SELECT_MIN_ID = "SELECT COALESCE(MIN(id), 0) FROM category_outbox";
+    private static final String COUNT_RANGE = "SELECT COUNT(*) FROM category_outbox WHERE id > :after AND id <= :until";
+    private static final String SELECT_RANGE = "SELECT id, category_id, type, payload, occurred_at FROM category_outbox " +
+            "WHERE id > :after AND id <= :until ORDER BY id LIMIT :limit";
+    private static final int READ_BATCH_SIZE = 500;
+
+    private static final RowMapper<CategoryChangeEvent> ROW_MAPPER = (rs, rowNum) -> new CategoryChangeEvent(
+            rs.getLong("id"),
+            CategoryChangeType.valueOf(rs.getString("type")),
+            BinaryUUIDs.fromBytes(rs.getBytes("category_id")),
+            rs.getTimestamp("occurred_at").toInstant(),
+            rs.getString("payload")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Duration timeout;
+    private final Duration heartbeatInterval;
+    private final Duration pollInterval;
+    private final long commitGraceNanos;
+    private final int clientQueueSize;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final List<Consumer<CategoryChangeEvent>> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService dispatcher;
+    private final ExecutorService senders;
+
+    // Só acessados pela thread do dispatcher
+    private final ArrayDeque<long[]> watermarks = new ArrayDeque<>();
+    private long delivered = -1;
+
+    public CategoryEventStream(final DataSource dataSource,
+                               final Duration timeout,
+                               final Duration heartbeatInterval,
+                               final Duration pollInterval,
+                               final Duration commitGrace,
+                               final int clientQueueSize,
+                               final int senderThreads) {
+        if (clientQueueSize < 1) throw new IllegalArgumentException("'clientQueueSize' must be positive");
+        if (senderThreads < 1) throw new IllegalArgumentException("'senderThreads' must be positive");
+
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.timeout = Objects.requireNonNull(timeout);
+        this.heartbeatInterval = Objects.requireNonNull(heartbeatInterval);
+        this.pollInterval = Objects.requireNonNull(pollInterval);
+        this.commitGraceNanos = commitGrace.toNanos();
+        this.clientQueueSize = clientQueueSize;
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "category-event-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        final var senderCount = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            final var thread = new Thread(runnable, "category-event-stream-sender-" + senderCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        this.dispatcher.scheduleWithFixedDelay(this::pollQuietly, 0, this.pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        final var heartbeatMillis = this.heartbeatInterval.toMillis();
+        this.dispatcher.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(final String lastEventId) {
+        return subscribe(new SseEmitter(this.timeout.toMillis()), lastEventId);
+    }
+
+    SseEmitter subscribe(final SseEmitter emitter, final String lastEventId) {
+        final var subscriber = new Subscriber(emitter, this.clientQueueSize);
+        emitter.onCompletion(() -> this.subscribers.remove(subscriber));
+        emitter.onTimeout(() -> this.subscribers.remove(subscriber));
+        emitter.onError(ex -> this.subscribers.remove(subscriber));
+
+        this.dispatcher.execute(() -> {
+            try {
+                if (replayTo(subscriber, lastEventId)) this.subscribers.add(subscriber);
+            } catch (final RuntimeException ex) {
+                log.warn("Category event stream replay failed, closing the connection", ex);
+                drop(subscriber);
+            }
+        });
+
+        return emitter;
+    }
+
+    // Listeners ficam na thread do dispatcher: devem ser rápidos e não bloquear
+    public void addListener(final Consumer<CategoryChangeEvent> listener) {
+        this.listeners.add(Objects.requireNonNull(listener));
+    }
+
+    public int connections() {
+        return this.subscribers.size();
+    }
+
+    // Executa um ciclo de leitura na thread do dispatcher (os testes chamam direto, sem o start)
+    CompletableFuture<Void> poll() {
+        return CompletableFuture.runAsync(this::readNewEvents, this.dispatcher);
+    }
+
+    private void pollQuietly() {
+        try {
+            readNewEvents();
+        } catch (final RuntimeException ex) {
+            log.warn("Category event stream failed to read the outbox, retrying on the next poll", ex);
+        }
+    }
+
+    private void readNewEvents() {
+        final var until = settledId();
+        while (this.delivered < until) {
+            final var events = read(this.delivered, until, READ_BATCH_SIZE);
+            if (events.isEmpty()) {
+                this.delivered = until;
+                break;
+            }
+
+            for (final var event : events) {
+                notifyListeners(event);
+
+                final var message = message(event);
+                this.subscribers.forEach(subscriber -> enqueue(subscriber, event.sequence(), message));
+            }
+            this.delivered = events.get(events.size() - 1).sequence();
+        }
+    }
+
+    private void notifyListeners(final CategoryChangeEvent event) {
+        for (final var listener : this.listeners) {
+            try {
+                listener.accept(event);
+            } catch (final RuntimeException ex) {
+                log.warn("Category event listener failed for event {}", event.sequence(), ex);
+            }
+        }
+    }
+
+    // Maior id que já pode ser entregue: o MAX(id) observado há pelo menos o commit grace
+    private long settledId() {
+        final var now = System.nanoTime();
+        final var maxId = Objects.requireNonNull(this.jdbcTemplate.getJdbcTemplate().queryForObject(SELECT_MAX_ID, Long.class));
+
+        // Na primeira leitura só eventos novos serão entregues; o histórico fica para o replay pelo Last-Event-ID
+        if (this.delivered < 0) this.delivered = maxId;
+
+        this.watermarks.addLast(new long[]{ now, maxId });
+
+        var settled = this.delivered;
+        while (!this.watermarks.isEmpty() && now - this.watermarks.peekFirst()[0] >= this.commitGraceNanos) {
+            settled = Math.max(settled, this.watermarks.removeFirst()[1]);
+        }
+        return settled;
+    }
+
+    private List<CategoryChangeEvent> read(final long after, final long until, final int limit) {
+        return this.jdbcTemplate.query(SELECT_RANGE, Map.of("after", after, "until", until, "limit", limit), ROW_MAPPER);
+    }
+
+    private boolean replayTo(final Subscriber subscriber, final String lastEventId) {
+        if (this.delivered < 0) settledId();
+        if (lastEventId == null || lastEventId.isBlank()) return true;
+
+        final long lastId;
+        try {
+            lastId = Long.parseLong(lastEventId.trim());
+        } catch (final NumberFormatException ex) {
+            return reset(subscriber);
+        }
+
+        // Cliente vindo de uma instância mais adiantada: os eventos até lastId são ignorados quando chegarem aqui
+        subscriber.after = lastId;
+        if (lastId >= this.delivered) return true;
+
+        final var oldest = Objects.requireNonNull(this.jdbcTemplate.getJdbcTemplate().queryForObject(SELECT_MIN_ID, Long.class));
+        if (oldest == 0 || lastId < oldest - 1) return reset(subscriber);
+
+        // O replay inteiro precisa caber na fila do cliente; se não couber ele ressincroniza pelo /categories/changes
+        final var params = Map.of("after", lastId, "until", this.delivered);
+        final var backlog = Objects.requireNonNull(this.jdbcTemplate.queryForObject(COUNT_RANGE, params, Long.class));
+        if (backlog >= this.clientQueueSize) return reset(subscriber);
+
+        for (final var event : read(lastId, this.delivered, this.clientQueueSize)) {
+            if (!enqueue(subscriber, event.sequence(), message(event))) return false;
+        }
+        return true;
+    }
+
+    private boolean reset(final Subscriber subscriber) {
+        return enqueue(subscriber, Long.MAX_VALUE, () -> SseEmitter.event().name(RESET_EVENT).data(RESET_EVENT));
+    }
+
+    // Mantém a conexão viva em proxies e revela clientes que sumiram sem fechar o socket
+    private void heartbeat() {
+        this.subscribers.forEach(subscriber -> enqueue(subscriber, Long.MAX_VALUE, () -> SseEmitter.event().comment("")));
+    }
+
+    // Não bloqueia: com a fila cheia o cliente é desconectado
+    private boolean enqueue(final Subscriber subscriber, final long sequence, final Supplier<SseEmitter.SseEventBuilder> message) {
+        if (subscriber.closed) return false;
+        if (sequence <= subscriber.after) return true;
+
+        if (!subscriber.queue.offer(message)) {
+            drop(subscriber);
+            return false;
+        }
+
+        if (subscriber.draining.compareAndSet(false, true)) {
+            this.senders.execute(() -> drain(subscriber));
+        }
+        return true;
+    }
+
+    private void drain(final Subscriber subscriber) {
+        do {
+            Supplier<SseEmitter.SseEventBuilder> message;
+            while (!subscriber.closed && (message = subscriber.queue.poll()) != null) {
+                if (!send(subscriber, message.get())) return;
+            }
+            if (subscriber.closed) {
+                subscriber.emitter.complete();
+                return;
+            }
+            subscriber.draining.set(false);
+            // Um enqueue (ou drop) entre o último poll e o set(false) não agendou outro drain: confere de novo
+        } while ((subscriber.closed || !subscriber.queue.isEmpty()) && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private boolean send(final Subscriber subscriber, final SseEmitter.SseEventBuilder message) {
+        try {
+            subscriber.emitter.send(message);
+            return true;
+        } catch (final IOException | IllegalStateException ex) {
+            this.subscribers.remove(subscriber);
+            subscriber.queue.clear();
+            return false;
+        }
+    }
+
+    // O complete() fica com a thread de envio: ele espera o send em andamento (os dois sincronizam no emitter) e
+    // travaria o dispatcher atrás do cliente lento
+    private void drop(final Subscriber subscriber) {
+        this.subscribers.remove(subscriber);
+        subscriber.closed = true;
+        subscriber.queue.clear();
+
+        if (subscriber.draining.compareAndSet(false, true)) {
+            this.senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    // O JSON é serializado uma vez por evento; o SseEventBuilder não pode ser reaproveitado (o build() o altera)
+    private static Supplier<SseEmitter.SseEventBuilder> message(final CategoryChangeEvent event) {
+        final var id = String.valueOf(event.sequence());
+        final var name = event.type().name().toLowerCase(Locale.ROOT);
+        final var data = Json.writeValueAsString(event);
+
+        return () -> SseEmitter.event().id(id).name(name).data(data);
+    }
+
+    @Override
+    public void close() {
+        this.dispatcher.shutdownNow();
+        this.senders.shutdownNow();
+        this.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        this.subscribers.clear();
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Supplier<SseEmitter.SseEventBuilder>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        // Maior id que o cliente já tem (Last-Event-ID); escrito e lido só pela thread do dispatcher
+        private long after = -1;
+
+        private Subscriber(final SseEmitter emitter, final int queueSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.infrastructure.configuration.properties.CategoryCacheProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    @ConfigurationProperties("cache.categories")
+    public CategoryCacheProperties categoryCacheProperties() {
+        return new CategoryCacheProperties();
+    }
+}
@@ -0,0 +1,75 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.infrastructure.configuration.datasource.HikariPools;
+import com.admin.catalogo.infrastructure.configuration.execution.BoundedDataSource;
+import com.admin.catalogo.infrastructure.configuration.execution.VirtualThreads;
+import com.admin.catalogo.infrastructure.configuration.properties.ExecutionProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import javax.sql.DataSource;
+import java.util.concurrent.ExecutorService;
+
+// execution.mode=virtual: servlets executam em virtual threads (JDK 21+) ao invés dos workers do Undertow.
+// Experimental: o MySQL Connector/J 8.0 lê o socket dentro de blocos synchronized, o que prende (pinning) a virtual
+// thread ao carrier enquanto espera o banco. Com database-permits (20) acima do número de carriers (um por CPU),
+// as consultas em andamento podem ocupar todos eles e parar as demais requisições. A comparação em
+// benchmarks/results/CategoryLoadTest.json rodou com H2 em memória, que não exercita esse caso.
+@Configuration
+@ConditionalOnProperty(name = "execution.mode", havingValue = "virtual")
+public class ExecutionConfig {
+
+    @Bean
+    @ConfigurationProperties("execution")
+    public ExecutionProperties executionProperties() {
+        return new ExecutionProperties();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        return VirtualThreads.newExecutor();
+    }
+
+    // Substitui o applicationTaskExecutor do Boot, usado também pelas respostas assíncronas do MVC (ex: export)
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor(final ExecutorService virtualThreadExecutor) {
+        return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadsCustomizer(final ExecutorService virtualThreadExecutor) {
+        return factory -> factory.addDeploymentInfoCustomizers(deploymentInfo -> deploymentInfo.setExecutor(virtualThreadExecutor));
+    }
+
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor(final ObjectProvider<ExecutionProperties> properties,
+                                                                   final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                // Limita cada pool (master e, se houver, replica), não o DataSource roteado que fica na frente deles
+                if (HikariPools.find(bean).isEmpty()) return bean;
+
+                final var props = properties.getObject();
+                final var bounded = new BoundedDataSource((DataSource) bean, props.getDatabasePermits(), props.getDatabaseAcquireTimeout());
+
+                meterRegistry.ifAvailable(registry -> Gauge.builder("datasource.permits.waiting", bounded, BoundedDataSource::queueLength)
+                        .tag("datasource", beanName)
+                        .register(registry));
+
+                return bounded;
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
+import com.admin.catalogo.infrastructure.configuration.properties.HibernateCacheProperties;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+// Cache de segundo nível do Hibernate (entidade + query cache) em uma JCache local da Caffeine.
+// Todas as regiões são criadas aqui com tamanho máximo; com missing_cache_strategy=fail o Hibernate não cria
+// nenhuma região sem limite. As estatísticas ligadas viram métricas hibernate.* pelo HibernateMetrics do Actuator.
+@Configuration
+@ConditionalOnProperty(name = "cache.hibernate.enabled", havingValue = "true")
+public class HibernateCacheConfig {
+
+    @Bean
+    @ConfigurationProperties("cache.hibernate")
+    public HibernateCacheProperties hibernateCacheProperties() {
+        return new HibernateCacheProperties();
+    }
+
+    // URI própria por contexto: o CacheManager da URI padrão é compartilhado por todo o classloader
+    @Bean
+    public CacheManager hibernateCacheManager(final HibernateCacheProperties hibernateCacheProperties) {
+        final var provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        final var cacheManager = provider.getCacheManager(
+                URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        final var expireAfterWrite = OptionalLong.of(hibernateCacheProperties.getExpireAfterWrite().toNanos());
+
+        cacheManager.createCache(CategoryJPAEntity.CACHE_REGION,
+                region(hibernateCacheProperties.getMaximumSize(), expireAfterWrite));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                region(hibernateCacheProperties.getQueryMaximumSize(), expireAfterWrite));
+
+        // Os timestamps invalidam o query cache: uma entrada por tabela e sem expiração
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                region(hibernateCacheProperties.getQueryMaximumSize(), OptionalLong.empty()));
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(final CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    // Por referência: o Hibernate já guarda entradas desmontadas (CacheEntry), não a entidade
+    private static CaffeineConfiguration<Object, Object> region(final long maximumSize,
+                                                                final OptionalLong expireAfterWrite) {
+        final var configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(expireAfterWrite);
+        return configuration;
+    }
+}
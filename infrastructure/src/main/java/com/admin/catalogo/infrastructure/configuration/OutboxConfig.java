@@ -0,0 +1,87 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.infrastructure.category.outbox.CategoryEventPublisher;
+import com.admin.catalogo.infrastructure.category.outbox.CategoryOutboxRelay;
+import com.admin.catalogo.infrastructure.category.outbox.FileCategoryEventPublisher;
+import com.admin.catalogo.infrastructure.category.outbox.InMemoryCategoryEventPublisher;
+import com.admin.catalogo.infrastructure.category.stream.CategoryEventStream;
+import com.admin.catalogo.infrastructure.configuration.properties.OutboxProperties;
+import com.admin.catalogo.infrastructure.configuration.properties.StreamProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConfigurationProperties("outbox.categories")
+    public OutboxProperties categoryOutboxProperties() {
+        return new OutboxProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("stream.categories")
+    public StreamProperties categoryStreamProperties() {
+        return new StreamProperties();
+    }
+
+    // Lê o category_outbox direto, então funciona também nas instâncias com o relay desligado
+    @Bean
+    public CategoryEventStream categoryEventStream(final DataSource dataSource,
+                                                   final StreamProperties categoryStreamProperties,
+                                                   final MeterRegistry meterRegistry) {
+        final var stream = new CategoryEventStream(
+                dataSource,
+                categoryStreamProperties.getTimeout(),
+                categoryStreamProperties.getHeartbeatInterval(),
+                categoryStreamProperties.getPollInterval(),
+                categoryStreamProperties.getCommitGrace(),
+                categoryStreamProperties.getClientQueueSize(),
+                categoryStreamProperties.getSenderThreads()
+        );
+
+        Gauge.builder("category.stream.connections", stream, CategoryEventStream::connections)
+                .register(meterRegistry);
+
+        return stream;
+    }
+
+    // Um publisher de broker (Kafka, RabbitMQ...) entra declarando outro bean CategoryEventPublisher
+    @Bean
+    @ConditionalOnMissingBean
+    public CategoryEventPublisher categoryEventPublisher(final OutboxProperties categoryOutboxProperties) {
+        return switch (categoryOutboxProperties.getPublisher()) {
+            case "memory" -> new InMemoryCategoryEventPublisher();
+            case "file" -> new FileCategoryEventPublisher(categoryOutboxProperties.getFile());
+            default -> throw new IllegalStateException(
+                    "outbox.categories.publisher must be file or memory, was " + categoryOutboxProperties.getPublisher());
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "outbox.categories.relay-enabled", havingValue = "true", matchIfMissing = true)
+    public CategoryOutboxRelay categoryOutboxRelay(final DataSource dataSource,
+                                                   final PlatformTransactionManager transactionManager,
+                                                   final CategoryEventPublisher categoryEventPublisher,
+                                                   final OutboxProperties categoryOutboxProperties,
+                                                   final MeterRegistry meterRegistry) {
+        return new CategoryOutboxRelay(
+                dataSource,
+                transactionManager,
+                categoryEventPublisher,
+                categoryOutboxProperties.getBatchSize(),
+                categoryOutboxProperties.getPollInterval(),
+                categoryOutboxProperties.getClaimTimeout(),
+                categoryOutboxProperties.getRetention(),
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,71 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.infrastructure.configuration.datasource.HikariPools;
+import com.admin.catalogo.infrastructure.configuration.datasource.QueryMetricsDataSource;
+import com.admin.catalogo.infrastructure.configuration.datasource.QueryOriginInterceptor;
+import com.admin.catalogo.infrastructure.configuration.properties.QueryMetricsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+// Métricas por statement (db.query / db.query.rows) e slow-query log. A espera por conexão já é publicada
+// pelo Hikari em hikaricp.connections.acquire (tag pool=master/replica).
+@Configuration
+@ConditionalOnProperty(name = "datasource.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryMetricsConfig {
+
+    @Bean
+    @ConfigurationProperties("datasource.metrics")
+    public QueryMetricsProperties queryMetricsProperties() {
+        return new QueryMetricsProperties();
+    }
+
+    @Bean
+    public static BeanPostProcessor queryMetricsDataSourcePostProcessor(final ObjectProvider<QueryMetricsProperties> properties,
+                                                                        final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                // O registry só é pedido para os pools: pedir para todo bean cria um ciclo com o próprio MeterRegistry
+                final var aPool = HikariPools.find(bean).orElse(null);
+                if (aPool == null) return bean;
+
+                final var registry = meterRegistry.getIfAvailable();
+                if (registry == null) return bean;
+
+                final var poolName = aPool.getPoolName() != null ? aPool.getPoolName() : beanName;
+                return new QueryMetricsDataSource((DataSource) bean, poolName, registry, properties.getObject().getSlowQueryThreshold());
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor queryOriginPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (!(bean instanceof CategoryGateway)) return bean;
+
+                // O gateway JPA já é um proxy por causa do @Transactional: a origem entra antes da transação
+                if (bean instanceof Advised advised && !advised.isFrozen()) {
+                    advised.addAdvice(0, new QueryOriginInterceptor());
+                    return bean;
+                }
+
+                final var factory = new ProxyFactory(bean);
+                factory.setProxyTargetClass(true);
+                factory.addAdvice(new QueryOriginInterceptor());
+                return factory.getProxy();
+            }
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.domain.category.AsyncCategoryGateway;
+import com.admin.catalogo.infrastructure.category.reactive.CategoryR2dbcGateway;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+// O auto-configuration do R2DBC fica desligado (application.yml): o R2dbcTransactionManager dele faria o
+// JpaTransactionManager deixar de ser criado. Aqui só existe o ConnectionFactory e o DatabaseClient.
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(R2dbcProperties.class)
+public class ReactiveConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory(final R2dbcProperties properties) {
+        final ConnectionFactory connectionFactory = ConnectionFactoryBuilder.withUrl(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .build();
+
+        final var pool = properties.getPool();
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(pool.getInitialSize())
+                .maxSize(pool.getMaxSize())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(final ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    // O R2dbcTransactionManager fica só dentro do gateway, sem virar bean (ver comentário da classe)
+    @Bean
+    public AsyncCategoryGateway asyncCategoryGateway(final DatabaseClient databaseClient, final ConnectionFactory connectionFactory) {
+        final var transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+        return new CategoryR2dbcGateway(databaseClient, transactionalOperator);
+    }
+}
@@ -0,0 +1,39 @@
+package com.admin.catalogo.infrastructure.configuration;
+
+import com.admin.catalogo.infrastructure.category.CategoryRepository;
+import com.admin.catalogo.infrastructure.category.search.CategoryIndexLoader;
+import com.admin.catalogo.infrastructure.category.search.CategoryInvertedIndex;
+import com.admin.catalogo.infrastructure.category.stream.CategoryEventStream;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.persistence.EntityManager;
+
+@Configuration
+@ConditionalOnProperty(name = "search.categories.in-memory", havingValue = "true")
+public class SearchConfig {
+
+    @Bean
+    public CategoryInvertedIndex categoryInvertedIndex(final MeterRegistry meterRegistry) {
+        final var index = new CategoryInvertedIndex();
+
+        Gauge.builder("category.search.index.documents", index, CategoryInvertedIndex::size)
+                .register(meterRegistry);
+
+        return index;
+    }
+
+    // Escritas de outras instâncias (e do gateway reativo) chegam ao índice pelo category_outbox
+    @Bean
+    public CategoryIndexLoader categoryIndexLoader(final CategoryRepository repository,
+                                                   final EntityManager entityManager,
+                                                   final CategoryInvertedIndex index,
+                                                   final CategoryEventStream categoryEventStream) {
+        final var loader = new CategoryIndexLoader(repository, entityManager, index);
+        categoryEventStream.addListener(loader::apply);
+        return loader;
+    }
+}
@@ -0,0 +1,22 @@
+package com.admin.catalogo.infrastructure.configuration.datasource;
+
+// Força a leitura no primário durante a requisição atual (read-your-writes)
+public final class DataSourceRoute {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = ThreadLocal.withInitial(() -> false);
+
+    private DataSourceRoute() {
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get();
+    }
+
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(true);
+    }
+
+    public static void clear() {
+        PRIMARY_FORCED.remove();
+    }
+}
@@ -0,0 +1,22 @@
+package com.admin.catalogo.infrastructure.configuration.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.util.Optional;
+
+// Os BeanPostProcessors (BoundedDataSource, QueryMetricsDataSource) decoram cada pool independente da
+// ordem em que rodam, então o pool pode já estar embrulhado por outro decorator
+public final class HikariPools {
+
+    private HikariPools() {
+    }
+
+    public static Optional<HikariDataSource> find(final Object bean) {
+        var current = bean;
+        while (current instanceof DelegatingDataSource aDelegating) {
+            current = aDelegating.getTargetDataSource();
+        }
+        return current instanceof HikariDataSource aPool ? Optional.of(aPool) : Optional.empty();
+    }
+}
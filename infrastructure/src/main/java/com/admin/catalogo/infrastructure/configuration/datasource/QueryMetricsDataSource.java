@@ -0,0 +1,244 @@
+package com.admin.catalogo.infrastructure.configuration.datasource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+// Mede cada statement JDBC (tempo e linhas) agrupado pela origem (QueryOrigin) e registra no
+// slow-query log os statements acima do limite, com os parâmetros bindados.
+public class QueryMetricsDataSource extends DelegatingDataSource {
+
+    public static final String TIMER_NAME = "db.query";
+    public static final String ROWS_NAME = "db.query.rows";
+
+    private static final Logger slowQueryLog = LoggerFactory.getLogger("com.admin.catalogo.slow-query");
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final MeterRegistry meterRegistry;
+    private final String pool;
+    private final long slowQueryThresholdNanos;
+
+    // Cada statement registraria o meter de novo (Meter.Id + busca no registry); ficam em cache por (origin, kind)
+    private final ConcurrentMap<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterKey, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+
+    public QueryMetricsDataSource(final DataSource targetDataSource,
+                                  final String pool,
+                                  final MeterRegistry meterRegistry,
+                                  final Duration slowQueryThreshold) {
+        super(targetDataSource);
+        this.pool = pool;
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    static String kindOf(final String sql) {
+        if (sql == null) return "other";
+
+        final var trimmed = sql.stripLeading();
+        var end = 0;
+        while (end < trimmed.length() && !Character.isWhitespace(trimmed.charAt(end))) end++;
+        final var keyword = trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+
+        return switch (keyword) {
+            case "select", "insert", "update", "delete" -> keyword;
+            default -> "other";
+        };
+    }
+
+    private void record(final String origin, final String sql, final long elapsedNanos,
+                        final Map<Integer, Object> parameters, final int batchSize) {
+        this.timers.computeIfAbsent(new MeterKey(origin, kindOf(sql)), key -> Timer.builder(TIMER_NAME)
+                        .tag("pool", pool)
+                        .tag("origin", key.origin())
+                        .tag("kind", key.kind())
+                        .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (elapsedNanos >= slowQueryThresholdNanos) {
+            slowQueryLog.warn("Slow query ({} ms) from {} on pool {}: {} | parameters={}{}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), origin, pool, sql, parameters.values(),
+                    batchSize > 0 ? " | batch=" + batchSize : "");
+        }
+    }
+
+    private void recordRows(final String origin, final String sql, final long rows) {
+        this.rowSummaries.computeIfAbsent(new MeterKey(origin, kindOf(sql)), key -> DistributionSummary.builder(ROWS_NAME)
+                        .tag("pool", pool)
+                        .tag("origin", key.origin())
+                        .tag("kind", key.kind())
+                        .register(meterRegistry))
+                .record(rows);
+    }
+
+    private record MeterKey(String origin, String kind) {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(QueryMetricsDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(final Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final var result = QueryMetricsDataSource.invoke(this.target, method, args);
+
+            return switch (method.getName()) {
+                case "createStatement" -> proxy(method.getReturnType(), new StatementHandler(result, null));
+                case "prepareStatement", "prepareCall" -> proxy(method.getReturnType(), new StatementHandler(result, (String) args[0]));
+                default -> result;
+            };
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Object target;
+        private final String sql;
+        private final Map<Integer, Object> parameters = new TreeMap<>();
+        private int batchSize;
+        private RowCounter openResultSet;
+
+        private StatementHandler(final Object target, final String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final var name = method.getName();
+
+            if (EXECUTE_METHODS.contains(name)) return execute(method, args);
+
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                this.parameters.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                this.parameters.clear();
+            } else if (name.equals("addBatch")) {
+                this.batchSize++;
+            } else if (name.equals("close") && this.openResultSet != null) {
+                this.openResultSet.flush();
+            }
+
+            return QueryMetricsDataSource.invoke(this.target, method, args);
+        }
+
+        private Object execute(final Method method, final Object[] args) throws Throwable {
+            final var statementSql = args != null && args.length > 0 && args[0] instanceof String aSql ? aSql : this.sql;
+            final var origin = QueryOrigin.current();
+
+            final var start = System.nanoTime();
+            final var result = QueryMetricsDataSource.invoke(this.target, method, args);
+            final var elapsed = System.nanoTime() - start;
+
+            record(origin, statementSql, elapsed, this.parameters, this.batchSize);
+            this.batchSize = 0;
+
+            if (result instanceof ResultSet resultSet) {
+                if (this.openResultSet != null) this.openResultSet.flush();
+                this.openResultSet = new RowCounter(resultSet, origin, statementSql);
+                return proxy(ResultSet.class, this.openResultSet);
+            }
+
+            if (result instanceof Integer count) recordRows(origin, statementSql, Math.max(count, 0));
+            else if (result instanceof Long count) recordRows(origin, statementSql, Math.max(count, 0));
+            else if (result instanceof int[] counts) recordRows(origin, statementSql, sumOf(counts));
+            else if (result instanceof long[] counts) recordRows(origin, statementSql, sumOf(counts));
+
+            return result;
+        }
+
+        // Statement.SUCCESS_NO_INFO (-2) entra como zero
+        private static long sumOf(final int[] counts) {
+            long sum = 0;
+            for (final int count : counts) sum += Math.max(count, 0);
+            return sum;
+        }
+
+        private static long sumOf(final long[] counts) {
+            long sum = 0;
+            for (final long count : counts) sum += Math.max(count, 0);
+            return sum;
+        }
+    }
+
+    // Conta as linhas lidas; o registro acontece no close do ResultSet ou do statement, o que vier primeiro
+    private final class RowCounter implements InvocationHandler {
+
+        private final ResultSet target;
+        private final String origin;
+        private final String sql;
+        private long rows;
+        private boolean recorded;
+
+        private RowCounter(final ResultSet target, final String origin, final String sql) {
+            this.target = target;
+            this.origin = origin;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final var result = QueryMetricsDataSource.invoke(this.target, method, args);
+
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) this.rows++;
+            else if (method.getName().equals("close")) flush();
+
+            return result;
+        }
+
+        private void flush() {
+            if (this.recorded) return;
+            this.recorded = true;
+            recordRows(this.origin, this.sql, this.rows);
+        }
+    }
+}
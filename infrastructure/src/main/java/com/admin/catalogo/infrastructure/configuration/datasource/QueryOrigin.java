@@ -0,0 +1,29 @@
+package com.admin.catalogo.infrastructure.configuration.datasource;
+
+// Método do gateway que está executando SQL na thread atual; usado como tag das métricas de query
+public final class QueryOrigin {
+
+    public static final String UNKNOWN = "other";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private QueryOrigin() {
+    }
+
+    public static String current() {
+        final var origin = CURRENT.get();
+        return origin == null ? UNKNOWN : origin;
+    }
+
+    // Retorna a origem anterior para que chamadas aninhadas (ex: create -> findById) restaurem a externa
+    public static String enter(final String anOrigin) {
+        final var previous = CURRENT.get();
+        CURRENT.set(anOrigin);
+        return previous;
+    }
+
+    public static void exit(final String previous) {
+        if (previous == null) CURRENT.remove();
+        else CURRENT.set(previous);
+    }
+}
@@ -0,0 +1,20 @@
+package com.admin.catalogo.infrastructure.configuration.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.util.ClassUtils;
+
+// Marca os statements executados dentro de um método do gateway (ex: CategoryMySQLGateway.findAll)
+public class QueryOriginInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final var aClass = ClassUtils.getUserClass(invocation.getThis());
+        final var previous = QueryOrigin.enter(aClass.getSimpleName() + "." + invocation.getMethod().getName());
+        try {
+            return invocation.proceed();
+        } finally {
+            QueryOrigin.exit(previous);
+        }
+    }
+}
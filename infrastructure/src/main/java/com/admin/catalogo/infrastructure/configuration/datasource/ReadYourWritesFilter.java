@@ -0,0 +1,66 @@
+package com.admin.catalogo.infrastructure.configuration.datasource;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+// Depois de uma escrita, o cliente recebe um cookie que mantém suas leituras no primário enquanto a réplica
+// pode estar atrasada. A própria requisição de escrita também lê do primário (ex: findById antes do update).
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "read-primary-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration stickiness;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(final Duration stickiness, final Clock clock) {
+        this.stickiness = stickiness;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain chain) throws ServletException, IOException {
+        final var now = this.clock.millis();
+        final var isWrite = !SAFE_METHODS.contains(request.getMethod());
+
+        if (isWrite || readPrimaryUntil(request) > now) DataSourceRoute.forcePrimary();
+
+        if (isWrite && !this.stickiness.isZero()) {
+            final var cookie = new Cookie(COOKIE_NAME, Long.toString(now + this.stickiness.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, this.stickiness.toSeconds()));
+            response.addCookie(cookie);
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            DataSourceRoute.clear();
+        }
+    }
+
+    private static long readPrimaryUntil(final HttpServletRequest request) {
+        final var cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        if (cookie == null) return 0;
+
+        try {
+            return Long.parseLong(cookie.getValue());
+        } catch (final NumberFormatException ex) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.admin.catalogo.infrastructure.configuration.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// Transações readOnly vão para a réplica, o resto para o primário. Precisa ficar atrás de um
+// LazyConnectionDataSourceProxy: o JpaTransactionManager pega a conexão antes de marcar a transação como readOnly.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {PRIMARY, REPLICA}
+
+    public ReplicaRoutingDataSource(final DataSource primary, final DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !DataSourceRoute.isPrimaryForced()
+                ? Route.REPLICA
+                : Route.PRIMARY;
+    }
+}
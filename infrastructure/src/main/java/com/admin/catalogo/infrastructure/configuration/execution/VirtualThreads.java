@@ -0,0 +1,39 @@
+package com.admin.catalogo.infrastructure.configuration.execution;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// O projeto compila em Java 17; o executor de virtual threads (JDK 21+) é resolvido em tempo de execução
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (final NoSuchMethodException ex) {
+            return false;
+        }
+    }
+
+    public static ExecutorService newExecutor() {
+        if (!isSupported()) {
+            throw new IllegalStateException("Virtual threads require Java 21+, running on " + Runtime.version());
+        }
+
+        try {
+            final var factory = MethodHandles.publicLookup().findStatic(
+                    Executors.class,
+                    "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class)
+            );
+            return (ExecutorService) factory.invoke();
+        } catch (final Throwable ex) {
+            throw new IllegalStateException("Could not create the virtual thread executor", ex);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.admin.catalogo.infrastructure.configuration.jpa;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+public class MySQLFunctionsContributor implements MetadataBuilderContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        //Permite usar o índice FULLTEXT via Criteria: match_against(coluna1, coluna2, 'termos')
+        metadataBuilder.applySqlFunction(
+                MATCH_AGAINST,
+                new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "match(?1, ?2) against (?3 in boolean mode)")
+        );
+    }
+}
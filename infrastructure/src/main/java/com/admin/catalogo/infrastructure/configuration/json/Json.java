@@ -1,5 +1,9 @@
 package com.admin.catalogo.infrastructure.configuration.json;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
@@ -10,6 +14,10 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
 
 public enum Json {
@@ -28,6 +36,35 @@ public enum Json {
         return invoke(() -> INSTANCE.mapper.readValue(json, clazz));
     }
 
+    // Escrita em stream; o generator não fecha o OutputStream recebido e não separa os documentos
+    // da raiz com o espaço padrão do Jackson, quem escreve decide o separador (ex: '\n' no NDJSON)
+    public static JsonGenerator createGenerator(final OutputStream out) {
+        return invoke(() -> INSTANCE.mapper.createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null));
+    }
+
+    // Lê uma sequência de documentos JSON separados por quebra de linha (NDJSON), um documento por vez.
+    // Para no documento de número limit: o restante do corpo não é lido nem desserializado.
+    public static <T> List<T> readValues(final InputStream json, final Class<T> clazz, final int limit) {
+        return invoke(() -> {
+            // Percorre o parser direto porque o MappingIterator falha em um null na raiz; o item null vai para a lista
+            try (JsonParser parser = INSTANCE.mapper.createParser(json)) {
+                final var reader = INSTANCE.mapper.readerFor(clazz);
+                final var values = new ArrayList<T>();
+
+                var token = parser.nextToken();
+                if (token == JsonToken.START_ARRAY) token = parser.nextToken();
+
+                while (values.size() < limit && token != null && token != JsonToken.END_ARRAY) {
+                    values.add(token == JsonToken.VALUE_NULL ? null : reader.readValue(parser));
+                    token = parser.nextToken();
+                }
+                return values;
+            }
+        });
+    }
+
 
     private final ObjectMapper mapper = new Jackson2ObjectMapperBuilder()
             .dateFormat(new StdDateFormat())
@@ -0,0 +1,106 @@
+package com.admin.catalogo.infrastructure.configuration.metrics;
+
+import com.admin.catalogo.application.category.NullaryUseCase;
+import com.admin.catalogo.application.category.UnityUseCase;
+import com.admin.catalogo.application.category.UseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vavr.control.Either;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Mede o execute() de qualquer UseCase/UnityUseCase/NullaryUseCase. Os percentis (p50/p99/p999)
+// e os buckets do Prometheus são configurados em management.metrics.distribution.*.usecase.execution
+public class UseCaseMetrics implements MethodInterceptor {
+
+    public static final String TIMER_NAME = "usecase.execution";
+    public static final String ERRORS_NAME = "usecase.errors";
+
+    private static final Set<Class<?>> USE_CASE_TYPES = Set.of(UseCase.class, UnityUseCase.class, NullaryUseCase.class);
+
+    private final MeterRegistry meterRegistry;
+    private final String useCase;
+
+    // O register() monta o Meter.Id e consulta o registry a cada chamada; os meters deste use case ficam
+    // em cache por outcome e por exceção
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, Counter> errors = new ConcurrentHashMap<>();
+
+    private UseCaseMetrics(final MeterRegistry meterRegistry, final String useCase) {
+        this.meterRegistry = meterRegistry;
+        this.useCase = useCase;
+    }
+
+    public static boolean supports(final Object bean) {
+        return bean instanceof UseCase<?, ?> || bean instanceof UnityUseCase<?> || bean instanceof NullaryUseCase<?>;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T instrument(final T aUseCase, final MeterRegistry meterRegistry) {
+        final var factory = new ProxyFactory(aUseCase);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new UseCaseMetrics(meterRegistry, nameOf(aUseCase.getClass())));
+        return (T) factory.getProxy();
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        if (!"execute".equals(invocation.getMethod().getName())) return invocation.proceed();
+
+        final var sample = Timer.start(meterRegistry);
+        final Object result;
+        try {
+            result = invocation.proceed();
+        } catch (final Throwable t) {
+            record(sample, null, t);
+            throw t;
+        }
+
+        // Use cases assíncronos só terminam quando o future completa
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, error) -> record(sample, value, error));
+        } else {
+            record(sample, result, null);
+        }
+        return result;
+    }
+
+    private void record(final Timer.Sample sample, final Object result, final Throwable error) {
+        final var cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+        final String outcome;
+        if (cause != null) outcome = "error";
+        else if (result instanceof Either<?, ?> either && either.isLeft()) outcome = "rejected";
+        else outcome = "success";
+
+        sample.stop(this.timers.computeIfAbsent(outcome, anOutcome -> Timer.builder(TIMER_NAME)
+                .tag("usecase", useCase)
+                .tag("outcome", anOutcome)
+                .register(meterRegistry)));
+
+        if (cause != null) {
+            this.errors.computeIfAbsent(cause.getClass(), anExceptionType -> Counter.builder(ERRORS_NAME)
+                            .tag("usecase", useCase)
+                            .tag("exception", anExceptionType.getSimpleName())
+                            .register(meterRegistry))
+                    .increment();
+        }
+    }
+
+    // Usa o contrato (ex: CreateCategoryUseCase) e não a implementação, para a tag não mudar com decorators
+    static String nameOf(final Class<?> aClass) {
+        var current = aClass;
+        while (current.getSuperclass() != null && !USE_CASE_TYPES.contains(current.getSuperclass())) {
+            current = current.getSuperclass();
+        }
+        return current.getSimpleName();
+    }
+}
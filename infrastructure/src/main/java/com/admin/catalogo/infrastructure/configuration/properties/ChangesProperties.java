@@ -0,0 +1,18 @@
+package com.admin.catalogo.infrastructure.configuration.properties;
+
+import java.time.Duration;
+
+// O updated_at é gravado pela aplicação antes do commit, então o feed só é completo se o settle time for maior
+// que a transação de escrita mais longa somada à diferença de relógio entre as instâncias
+public class ChangesProperties {
+
+    private Duration settleTime = Duration.ofSeconds(30);
+
+    public Duration getSettleTime() {
+        return settleTime;
+    }
+
+    public void setSettleTime(final Duration settleTime) {
+        this.settleTime = settleTime;
+    }
+}
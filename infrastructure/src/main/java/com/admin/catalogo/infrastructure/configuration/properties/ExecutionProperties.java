@@ -0,0 +1,25 @@
+package com.admin.catalogo.infrastructure.configuration.properties;
+
+import java.time.Duration;
+
+public class ExecutionProperties {
+
+    private int databasePermits = 20;
+    private Duration databaseAcquireTimeout = Duration.ofSeconds(5);
+
+    public int getDatabasePermits() {
+        return databasePermits;
+    }
+
+    public void setDatabasePermits(final int databasePermits) {
+        this.databasePermits = databasePermits;
+    }
+
+    public Duration getDatabaseAcquireTimeout() {
+        return databaseAcquireTimeout;
+    }
+
+    public void setDatabaseAcquireTimeout(final Duration databaseAcquireTimeout) {
+        this.databaseAcquireTimeout = databaseAcquireTimeout;
+    }
+}
@@ -0,0 +1,43 @@
+package com.admin.catalogo.infrastructure.configuration.properties;
+
+import java.time.Duration;
+
+public class HibernateCacheProperties {
+
+    private boolean enabled = false;
+    private long maximumSize = 10_000;
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+    private long queryMaximumSize = 1_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(final long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    public void setExpireAfterWrite(final Duration expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    public long getQueryMaximumSize() {
+        return queryMaximumSize;
+    }
+
+    public void setQueryMaximumSize(final long queryMaximumSize) {
+        this.queryMaximumSize = queryMaximumSize;
+    }
+}
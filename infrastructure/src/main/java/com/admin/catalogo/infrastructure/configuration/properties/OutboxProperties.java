@@ -0,0 +1,71 @@
+package com.admin.catalogo.infrastructure.configuration.properties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+public class OutboxProperties {
+
+    private boolean relayEnabled = true;
+    private int batchSize = 500;
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private Duration claimTimeout = Duration.ofSeconds(30);
+    private Duration retention = Duration.ofHours(1);
+    private String publisher = "file";
+    private Path file = Path.of("category-events.ndjson");
+
+    public boolean isRelayEnabled() {
+        return relayEnabled;
+    }
+
+    public void setRelayEnabled(final boolean relayEnabled) {
+        this.relayEnabled = relayEnabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(final Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public Duration getClaimTimeout() {
+        return claimTimeout;
+    }
+
+    public void setClaimTimeout(final Duration claimTimeout) {
+        this.claimTimeout = claimTimeout;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(final Duration retention) {
+        this.retention = retention;
+    }
+
+    public String getPublisher() {
+        return publisher;
+    }
+
+    public void setPublisher(final String publisher) {
+        this.publisher = publisher;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public void setFile(final Path file) {
+        this.file = file;
+    }
+}
@@ -0,0 +1,16 @@
+package com.admin.catalogo.infrastructure.configuration.properties;
+
+import java.time.Duration;
+
+public class QueryMetricsProperties {
+
+    private Duration slowQueryThreshold = Duration.ofMillis(500);
+
+    public Duration getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    public void setSlowQueryThreshold(final Duration slowQueryThreshold) {
+        this.slowQueryThreshold = slowQueryThreshold;
+    }
+}
@@ -0,0 +1,61 @@
+package com.admin.catalogo.infrastructure.configuration.properties;
+
+import java.time.Duration;
+
+public class StreamProperties {
+
+    private Duration timeout = Duration.ofMinutes(30);
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    private Duration pollInterval = Duration.ofMillis(500);
+    private Duration commitGrace = Duration.ofSeconds(2);
+    private int clientQueueSize = 256;
+    private int senderThreads = 4;
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(final Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public Duration getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    public void setHeartbeatInterval(final Duration heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(final Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public Duration getCommitGrace() {
+        return commitGrace;
+    }
+
+    public void setCommitGrace(final Duration commitGrace) {
+        this.commitGrace = commitGrace;
+    }
+
+    public int getClientQueueSize() {
+        return clientQueueSize;
+    }
+
+    public void setClientQueueSize(final int clientQueueSize) {
+        this.clientQueueSize = clientQueueSize;
+    }
+
+    public int getSenderThreads() {
+        return senderThreads;
+    }
+
+    public void setSenderThreads(final int senderThreads) {
+        this.senderThreads = senderThreads;
+    }
+}
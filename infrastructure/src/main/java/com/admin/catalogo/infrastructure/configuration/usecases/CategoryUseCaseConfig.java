@@ -1,16 +1,32 @@
 package com.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.admin.catalogo.application.category.category.create.BatchCreateCategoryUseCase;
 import com.admin.catalogo.application.category.category.create.CreateCategoryUseCase;
+import com.admin.catalogo.application.category.category.create.DefaultBatchCreateCategoryUseCase;
 import com.admin.catalogo.application.category.category.create.DefaultCreateCategoryUseCase;
 import com.admin.catalogo.application.category.category.delete.DefaultDeleteCategoryUseCase;
 import com.admin.catalogo.application.category.category.delete.DeleteCategoryUseCase;
+import com.admin.catalogo.application.category.category.retrieve.changes.DefaultListCategoryChangesUseCase;
+import com.admin.catalogo.application.category.category.retrieve.changes.ListCategoryChangesUseCase;
 import com.admin.catalogo.application.category.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.admin.catalogo.application.category.category.retrieve.get.DefaultGetCategoryVersionUseCase;
 import com.admin.catalogo.application.category.category.retrieve.get.GetCategoryByIdUseCase;
+import com.admin.catalogo.application.category.category.retrieve.get.GetCategoryVersionUseCase;
 import com.admin.catalogo.application.category.category.retrieve.list.DefaultListCategoriesUseCase;
 import com.admin.catalogo.application.category.category.retrieve.list.ListCategoriesUseCase;
+import com.admin.catalogo.application.category.category.update.DefaultPatchCategoryUseCase;
 import com.admin.catalogo.application.category.category.update.DefaultUpdateCategoryUseCase;
+import com.admin.catalogo.application.category.category.update.PatchCategoryUseCase;
 import com.admin.catalogo.application.category.category.update.UpdateCategoryUseCase;
 import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.infrastructure.category.cache.CategoryCacheGateway;
+import com.admin.catalogo.infrastructure.category.search.CategoryIndexedGateway;
+import com.admin.catalogo.infrastructure.category.search.CategoryInvertedIndex;
+import com.admin.catalogo.infrastructure.category.stream.CategoryEventStream;
+import com.admin.catalogo.infrastructure.configuration.properties.CategoryCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -19,8 +35,25 @@ public class CategoryUseCaseConfig {
     private final CategoryGateway categoryGateway;
 
 
-    public CategoryUseCaseConfig(CategoryGateway categoryGateway) {
-        this.categoryGateway = categoryGateway;
+    public CategoryUseCaseConfig(final CategoryGateway categoryGateway,
+                                 final CategoryCacheProperties cacheProperties,
+                                 final ObjectProvider<CategoryInvertedIndex> searchIndex,
+                                 final CategoryEventStream categoryEventStream,
+                                 final MeterRegistry meterRegistry) {
+        final var anIndex = searchIndex.getIfAvailable();
+        final var indexed = anIndex != null
+                ? new CategoryIndexedGateway(categoryGateway, anIndex)
+                : categoryGateway;
+
+        if (!cacheProperties.isEnabled()) {
+            this.categoryGateway = indexed;
+            return;
+        }
+
+        // Escritas de outras instâncias (e do gateway reativo) invalidam o cache pelo category_outbox
+        final var cached = CategoryCacheGateway.with(indexed, cacheProperties, meterRegistry);
+        categoryEventStream.addListener(event -> cached.invalidate(CategoryID.from(event.categoryId())));
+        this.categoryGateway = cached;
     }
 
     @Bean
@@ -28,21 +61,41 @@ public class CategoryUseCaseConfig {
         return new DefaultCreateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public BatchCreateCategoryUseCase batchCreateCategoryUseCase() {
+        return new DefaultBatchCreateCategoryUseCase(categoryGateway);
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public PatchCategoryUseCase patchCategoryUseCase() {
+        return new DefaultPatchCategoryUseCase(categoryGateway);
+    }
+
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
         return new DefaultGetCategoryByIdUseCase(categoryGateway);
     }
 
+    @Bean
+    public GetCategoryVersionUseCase getCategoryVersionUseCase() {
+        return new DefaultGetCategoryVersionUseCase(categoryGateway);
+    }
+
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
         return new DefaultListCategoriesUseCase(categoryGateway);
     }
 
+    @Bean
+    public ListCategoryChangesUseCase listCategoryChangesUseCase() {
+        return new DefaultListCategoryChangesUseCase(categoryGateway);
+    }
+
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
@@ -0,0 +1,58 @@
+package com.admin.catalogo.infrastructure.configuration.usecases;
+
+import com.admin.catalogo.application.category.category.create.AsyncCreateCategoryUseCase;
+import com.admin.catalogo.application.category.category.create.DefaultAsyncCreateCategoryUseCase;
+import com.admin.catalogo.application.category.category.delete.AsyncDeleteCategoryUseCase;
+import com.admin.catalogo.application.category.category.delete.DefaultAsyncDeleteCategoryUseCase;
+import com.admin.catalogo.application.category.category.retrieve.get.AsyncGetCategoryByIdUseCase;
+import com.admin.catalogo.application.category.category.retrieve.get.DefaultAsyncGetCategoryByIdUseCase;
+import com.admin.catalogo.application.category.category.retrieve.list.AsyncListCategoriesUseCase;
+import com.admin.catalogo.application.category.category.retrieve.list.DefaultAsyncListCategoriesUseCase;
+import com.admin.catalogo.application.category.category.update.AsyncPatchCategoryUseCase;
+import com.admin.catalogo.application.category.category.update.AsyncUpdateCategoryUseCase;
+import com.admin.catalogo.application.category.category.update.DefaultAsyncPatchCategoryUseCase;
+import com.admin.catalogo.application.category.category.update.DefaultAsyncUpdateCategoryUseCase;
+import com.admin.catalogo.domain.category.AsyncCategoryGateway;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("reactive")
+public class ReactiveCategoryUseCaseConfig {
+    private final AsyncCategoryGateway categoryGateway;
+
+    public ReactiveCategoryUseCaseConfig(final AsyncCategoryGateway categoryGateway) {
+        this.categoryGateway = categoryGateway;
+    }
+
+    @Bean
+    public AsyncCreateCategoryUseCase asyncCreateCategoryUseCase() {
+        return new DefaultAsyncCreateCategoryUseCase(categoryGateway);
+    }
+
+    @Bean
+    public AsyncUpdateCategoryUseCase asyncUpdateCategoryUseCase() {
+        return new DefaultAsyncUpdateCategoryUseCase(categoryGateway);
+    }
+
+    @Bean
+    public AsyncPatchCategoryUseCase asyncPatchCategoryUseCase() {
+        return new DefaultAsyncPatchCategoryUseCase(categoryGateway);
+    }
+
+    @Bean
+    public AsyncGetCategoryByIdUseCase asyncGetCategoryByIdUseCase() {
+        return new DefaultAsyncGetCategoryByIdUseCase(categoryGateway);
+    }
+
+    @Bean
+    public AsyncListCategoriesUseCase asyncListCategoriesUseCase() {
+        return new DefaultAsyncListCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    public AsyncDeleteCategoryUseCase asyncDeleteCategoryUseCase() {
+        return new DefaultAsyncDeleteCategoryUseCase(categoryGateway);
+    }
+}
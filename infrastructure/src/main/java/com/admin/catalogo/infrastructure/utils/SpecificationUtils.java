@@ -2,6 +2,12 @@ package com.admin.catalogo.infrastructure.utils;
 
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Root;
+
+import static com.admin.catalogo.infrastructure.configuration.jpa.MySQLFunctionsContributor.MATCH_AGAINST;
+
 public final class SpecificationUtils {
 
     private SpecificationUtils() {}
@@ -12,6 +18,48 @@ public final class SpecificationUtils {
                 cb.like(cb.upper(root.get(prop)), like(term.toUpperCase()));
     }
 
+    // Busca pelo índice FULLTEXT (MySQL) das duas colunas, com a query no formato do BOOLEAN MODE.
+    public static <T> Specification<T> matchAgainst(final String prop,
+                                                    final String otherProp,
+                                                    final String booleanQuery) {
+        return (root, query, cb) -> cb.greaterThan(relevance(root, cb, prop, otherProp, booleanQuery), 0d);
+    }
+
+    public static <T> Expression<Double> relevance(final Root<T> root,
+                                                   final CriteriaBuilder cb,
+                                                   final String prop,
+                                                   final String otherProp,
+                                                   final String booleanQuery) {
+        return cb.function(MATCH_AGAINST, Double.class, root.get(prop), root.get(otherProp), cb.literal(booleanQuery));
+    }
+
+    // Keyset (seek): registros posteriores a (value, id) na ordenação "prop dir, idProp dir".
+    // Segue a ordenação padrão do MySQL/H2, onde NULL vem primeiro no asc e por último no desc.
+    public static <T, Y extends Comparable<? super Y>> Specification<T> after(final String prop,
+                                                                            final Y value,
+                                                                            final String idProp,
+                                                                            final String id,
+                                                                            final boolean ascending) {
+        return (root, query, cb) -> {
+            final var column = root.<Y>get(prop);
+            final var idColumn = root.<String>get(idProp);
+
+            final var idAfter = ascending ? cb.greaterThan(idColumn, id) : cb.lessThan(idColumn, id);
+
+            if (value == null) {
+                final var nullAndIdAfter = cb.and(cb.isNull(column), idAfter);
+                return ascending ? cb.or(nullAndIdAfter, cb.isNotNull(column)) : nullAndIdAfter;
+            }
+
+            final var valueAfter = ascending ? cb.greaterThan(column, value) : cb.lessThan(column, value);
+            final var sameValueAndIdAfter = cb.and(cb.equal(column, value), idAfter);
+
+            return ascending
+                    ? cb.or(valueAfter, sameValueAndIdAfter)
+                    : cb.or(valueAfter, cb.isNull(column), sameValueAndIdAfter);
+        };
+    }
+
     private static String like(final String term) {
         return "%" + term + "%";
     }
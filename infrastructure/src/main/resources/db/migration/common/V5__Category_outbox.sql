@@ -0,0 +1,7 @@
+CREATE TABLE category_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    category_id BINARY(16) NOT NULL,
+    type VARCHAR(16) NOT NULL,
+    payload TEXT NULL,
+    occurred_at DATETIME(6) NOT NULL
+);
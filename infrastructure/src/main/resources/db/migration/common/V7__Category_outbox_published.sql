@@ -0,0 +1,4 @@
+ALTER TABLE category_outbox ADD COLUMN published_at DATETIME(6) NULL;
+ALTER TABLE category_outbox ADD COLUMN claimed_until DATETIME(6) NULL;
+
+CREATE INDEX idx_category_outbox_published_at_id ON category_outbox (published_at, id);
@@ -0,0 +1 @@
+ALTER TABLE category ALTER COLUMN id BINARY(16) NOT NULL;
@@ -0,0 +1 @@
+ALTER TABLE category ADD FULLTEXT INDEX idx_category_name_description (name, description);
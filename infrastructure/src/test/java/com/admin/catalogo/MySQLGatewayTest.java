@@ -1,9 +1,14 @@
 package com.admin.catalogo;
 
+import com.admin.catalogo.infrastructure.category.export.CategoryExporter;
+import com.admin.catalogo.infrastructure.category.outbox.CategoryOutbox;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryMySQLGateway;
+import com.admin.catalogo.infrastructure.configuration.ChangesConfig;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.lang.annotation.*;
@@ -17,6 +22,9 @@ import java.lang.annotation.*;
                 @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".[MySQLGateway]")
         }
 )
+// Os beans testados entram pelo @Import e não pelo scan: o scan parte do pacote da classe de teste, mas o contexto em
+// cache é compartilhado por todas as classes com esta anotação, de qualquer pacote
+@Import({CategoryMySQLGateway.class, CategoryExporter.class, CategoryOutbox.class, ChangesConfig.class})
 @ActiveProfiles("test")
 @ExtendWith(MySQLCleanUpExtension.class)
 public @interface MySQLGatewayTest {
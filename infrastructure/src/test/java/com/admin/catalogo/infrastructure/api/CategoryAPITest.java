@@ -1,34 +1,55 @@
 package com.admin.catalogo.infrastructure.api;
 
 import com.admin.catalogo.ControllerTest;
+import com.admin.catalogo.application.category.category.create.BatchCreateCategoryOutput;
+import com.admin.catalogo.application.category.category.create.BatchCreateCategoryUseCase;
 import com.admin.catalogo.application.category.category.create.CreateCategoryOutput;
 import com.admin.catalogo.application.category.category.create.CreateCategoryUseCase;
+import com.admin.catalogo.application.category.category.create.DefaultBatchCreateCategoryUseCase;
 import com.admin.catalogo.application.category.category.delete.DeleteCategoryUseCase;
+import com.admin.catalogo.application.category.category.retrieve.changes.CategoryChangeOutput;
+import com.admin.catalogo.application.category.category.retrieve.changes.ListCategoryChangesUseCase;
 import com.admin.catalogo.application.category.category.retrieve.get.CategoryOutput;
 import com.admin.catalogo.application.category.category.retrieve.get.GetCategoryByIdUseCase;
+import com.admin.catalogo.application.category.category.retrieve.get.GetCategoryVersionUseCase;
 import com.admin.catalogo.application.category.category.retrieve.list.CategoryListOutput;
 import com.admin.catalogo.application.category.category.retrieve.list.ListCategoriesUseCase;
+import com.admin.catalogo.application.category.category.update.PatchCategoryUseCase;
 import com.admin.catalogo.application.category.category.update.UpdateCategoryOutput;
 import com.admin.catalogo.application.category.category.update.UpdateCategoryUseCase;
 import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryChange;
+import com.admin.catalogo.domain.category.CategoryField;
 import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.exceptions.ConflictException;
 import com.admin.catalogo.domain.exceptions.DomainException;
 import com.admin.catalogo.domain.exceptions.NotFoundException;
 import com.admin.catalogo.domain.exceptions.Notification;
 import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.TotalMode;
 import com.admin.catalogo.domain.validation.Error;
+import com.admin.catalogo.infrastructure.category.export.CategoryExportFormat;
+import com.admin.catalogo.infrastructure.category.export.CategoryExporter;
 import com.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.admin.catalogo.infrastructure.category.presenters.CategoryETags;
+import com.admin.catalogo.infrastructure.category.stream.CategoryEventStream;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import static io.vavr.API.Left;
 import static io.vavr.API.Right;
@@ -50,15 +71,33 @@ class CategoryAPITest {
     @MockBean
     private GetCategoryByIdUseCase getCategoryByIdUseCase;
 
+    @MockBean
+    private GetCategoryVersionUseCase getCategoryVersionUseCase;
+
     @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
 
+    @MockBean
+    private PatchCategoryUseCase patchCategoryUseCase;
+
     @MockBean
     private DeleteCategoryUseCase deleteCategoryUseCase;
 
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private ListCategoryChangesUseCase listCategoryChangesUseCase;
+
+    @MockBean
+    private BatchCreateCategoryUseCase batchCreateCategoryUseCase;
+
+    @MockBean
+    private CategoryExporter categoryExporter;
+
+    @MockBean
+    private CategoryEventStream categoryEventStream;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -183,9 +222,85 @@ class CategoryAPITest {
                         .andExpect(jsonPath("$.created_at", equalTo(aCategory.getCreatedAt().toString())))
                         .andExpect(jsonPath("$.updated_at", equalTo(aCategory.getUpdatedAt().toString())))
                         .andExpect(jsonPath("$.deleted_at", equalTo(aCategory.getDeletedAt())))
+                        .andExpect(header().string(HttpHeaders.ETAG, CategoryETags.of(expectedId, aCategory.getUpdatedAt())))
+                        .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
         ;
 
         verify(getCategoryByIdUseCase, times(1)).execute(eq(expectedId));
+        verify(getCategoryVersionUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenAMatchingETag_whenCallsGetCategoryById_shouldReturnNotModifiedWithoutLoadingCategory() throws Exception {
+        //given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var expectedId = aCategory.getId().getValue();
+        final var expectedETag = CategoryETags.of(expectedId, aCategory.getUpdatedAt());
+
+        when(getCategoryVersionUseCase.execute(any()))
+                .thenReturn(aCategory.getUpdatedAt());
+
+        //when
+        final var request = get("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, expectedETag);
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        //then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(content().string(""));
+
+        verify(getCategoryByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenAnUnchangedIfModifiedSince_whenCallsGetCategoryById_shouldReturnNotModifiedWithoutLoadingCategory() throws Exception {
+        //given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var expectedId = aCategory.getId().getValue();
+
+        when(getCategoryVersionUseCase.execute(any()))
+                .thenReturn(aCategory.getUpdatedAt());
+
+        final var conditions = new HttpHeaders();
+        conditions.setIfModifiedSince(aCategory.getUpdatedAt().toEpochMilli());
+
+        //when
+        final var request = get("/categories/{id}", expectedId)
+                .headers(conditions);
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        //then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, CategoryETags.of(expectedId, aCategory.getUpdatedAt())))
+                .andExpect(content().string(""));
+
+        verify(getCategoryByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenAnOutdatedETag_whenCallsGetCategoryById_shouldReturnTheCategory() throws Exception {
+        //given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var expectedId = aCategory.getId().getValue();
+
+        when(getCategoryVersionUseCase.execute(any()))
+                .thenReturn(aCategory.getUpdatedAt());
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        //when
+        final var request = get("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"%s-0\"".formatted(expectedId));
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        //then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", equalTo(expectedId)))
+                .andExpect(header().string(HttpHeaders.ETAG, CategoryETags.of(expectedId, aCategory.getUpdatedAt())));
     }
 
     @Test
@@ -243,6 +358,172 @@ class CategoryAPITest {
                 && Objects.equals(expectedIsActive, cmd.isActive())));
     }
 
+    @Test
+    public void givenAnIfMatchHeader_whenCallsUpdateCategory_shouldPassExpectedUpdatedAt() throws Exception {
+        //given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId().getValue();
+        final var expectedUpdatedAt = aCategory.getUpdatedAt().truncatedTo(ChronoUnit.MICROS);
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenReturn(Right(UpdateCategoryOutput.from(expectedId)));
+
+        final var aCommand = new UpdateCategoryRequest("Filmes", "A categoria mais assistida", true);
+
+        //when
+        final var request = put("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_MATCH, CategoryETags.of(expectedId, aCategory.getUpdatedAt()))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(this.objectMapper.writeValueAsString(aCommand));
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        //then
+        response.andExpect(status().isOk());
+
+        verify(updateCategoryUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(expectedUpdatedAt, cmd.expectedUpdatedAt())));
+    }
+
+    @Test
+    public void givenAStaleIfMatchHeader_whenCallsUpdateCategory_shouldReturnPreconditionFailed() throws Exception {
+        //given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+        final var expectedErrorMessage = "Category with ID %s was modified by another request".formatted(expectedId.getValue());
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenThrow(ConflictException.with(Category.class, expectedId));
+
+        final var aCommand = new UpdateCategoryRequest("Filmes", "A categoria mais assistida", true);
+
+        //when
+        final var request = put("/categories/{id}", expectedId.getValue())
+                .header(HttpHeaders.IF_MATCH, CategoryETags.of(expectedId.getValue(), aCategory.getUpdatedAt().minusSeconds(1)))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(this.objectMapper.writeValueAsString(aCommand));
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        //then
+        response.andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenAnIfMatchHeaderOfAnotherCategory_whenCallsUpdateCategory_shouldReturnPreconditionFailed() throws Exception {
+        //given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var aCommand = new UpdateCategoryRequest("Filmes", "A categoria mais assistida", true);
+
+        //when
+        final var request = put("/categories/{id}", aCategory.getId().getValue())
+                .header(HttpHeaders.IF_MATCH, CategoryETags.of("outra", aCategory.getUpdatedAt()))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(this.objectMapper.writeValueAsString(aCommand));
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        //then
+        response.andExpect(status().isPreconditionFailed());
+
+        verify(updateCategoryUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAConcurrentUpdateWithoutIfMatch_whenCallsUpdateCategory_shouldReturnConflict() throws Exception {
+        //given
+        final var expectedId = CategoryID.unique();
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenThrow(ConflictException.with(Category.class, expectedId));
+
+        final var aCommand = new UpdateCategoryRequest("Filmes", "A categoria mais assistida", true);
+
+        //when
+        final var request = put("/categories/{id}", expectedId.getValue())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(this.objectMapper.writeValueAsString(aCommand));
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        //then
+        response.andExpect(status().isConflict());
+    }
+
+    @Test
+    public void givenAMergePatchWithOnlyActive_whenCallsPatchCategory_shouldSendOnlyActive() throws Exception {
+        //given
+        final var expectedId = CategoryID.unique().getValue();
+
+        when(patchCategoryUseCase.execute(any()))
+                .thenReturn(Right(UpdateCategoryOutput.from(expectedId)));
+
+        //when
+        final var request = patch("/categories/{id}", expectedId)
+                .contentType(CategoryAPI.MERGE_PATCH_JSON_VALUE)
+                .content("{\"is_active\": false}");
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        //then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+
+        verify(patchCategoryUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(Set.of(CategoryField.ACTIVE), cmd.fields())
+                        && Objects.equals(false, cmd.isActive())));
+    }
+
+    @Test
+    public void givenAMergePatchWithNullDescription_whenCallsPatchCategory_shouldClearDescription() throws Exception {
+        //given
+        final var expectedId = CategoryID.unique().getValue();
+
+        when(patchCategoryUseCase.execute(any()))
+                .thenReturn(Right(UpdateCategoryOutput.from(expectedId)));
+
+        //when
+        final var request = patch("/categories/{id}", expectedId)
+                .contentType(CategoryAPI.MERGE_PATCH_JSON_VALUE)
+                .content("{\"description\": null}");
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(status().isOk());
+
+        //then
+        verify(patchCategoryUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(Set.of(CategoryField.DESCRIPTION), cmd.fields())
+                        && cmd.description() == null));
+    }
+
+    @Test
+    public void givenAMergePatchWithWrongType_whenCallsPatchCategory_shouldReturnUnprocessableEntity() throws Exception {
+        //given
+        final var expectedId = CategoryID.unique().getValue();
+        final var expectedErrorMessage = "'is_active' must be a boolean";
+
+        //when
+        final var request = patch("/categories/{id}", expectedId)
+                .contentType(CategoryAPI.MERGE_PATCH_JSON_VALUE)
+                .content("{\"is_active\": \"no\"}");
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        //then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(patchCategoryUseCase, never()).execute(any());
+    }
+
     @Test
     public void givenAInvalidId_whenCallsUpdateCategory_thenShouldReturnDomainException() throws Exception {
         //given
@@ -382,4 +663,286 @@ class CategoryAPITest {
                 && Objects.equals(expectedDirection, query.direction())
                 && Objects.equals(expectedTerms, query.terms())));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenACursor_whenCallsListCategories_thenShouldForwardCursorAndReturnNextCursor() throws Exception {
+        //given
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        final var expectedPerPage = 10;
+        final var expectedCursor = "eyJzb3J0IjoibmFtZSJ9";
+        final var expectedNextCursor = "eyJzb3J0IjoiZGVzY3JpcHRpb24ifQ";
+        final var expectedItens = List.of(CategoryListOutput.from(aCategory));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, expectedPerPage, 11, expectedItens, expectedNextCursor, true));
+
+        //when
+        final var request = get("/categories")
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("cursor", expectedCursor);
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        //then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.has_more", equalTo(true)))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedCursor, query.cursor())
+                && Objects.equals(expectedPerPage, query.perPage())));
+    }
+
+    @Test
+    public void givenAMatchingETag_whenCallsListCategories_thenShouldReturnNotModified() throws Exception {
+        //given
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedItens = List.of(CategoryListOutput.from(aCategory));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 1, expectedItens));
+
+        final var firstResponse = this.mvc.perform(get("/categories"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse();
+
+        //when
+        final var request = get("/categories")
+                .header(HttpHeaders.IF_NONE_MATCH, firstResponse.getHeader(HttpHeaders.ETAG));
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        //then
+        response.andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void givenALastEventId_whenCallsStreamCategories_thenShouldOpenAsyncStreamFromThatEvent() throws Exception {
+        //given
+        final var expectedLastEventId = "42";
+
+        when(categoryEventStream.subscribe(any()))
+                .thenReturn(new SseEmitter());
+
+        //when
+        final var request = get("/categories/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .header("Last-Event-ID", expectedLastEventId);
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        //then
+        response.andExpect(request().asyncStarted());
+
+        verify(categoryEventStream, times(1)).subscribe(eq(expectedLastEventId));
+        verify(getCategoryByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenASinceToken_whenCallsListCategoryChanges_thenShouldReturnChangesAndTombstones() throws Exception {
+        //given
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var deletedId = CategoryID.unique();
+        final var deletedAt = aCategory.getUpdatedAt().plusSeconds(1);
+
+        final var expectedSince = "eyJhdCI6IjIwMjItMDEtMDFUMDA6MDA6MDBaIn0";
+        final var expectedNext = "eyJhdCI6IjIwMjItMDEtMDJUMDA6MDA6MDBaIn0";
+        final var expectedLimit = 2;
+        final var expectedItens = List.of(
+                CategoryChangeOutput.from(CategoryChange.changed(aCategory)),
+                CategoryChangeOutput.from(CategoryChange.deleted(deletedId, deletedAt))
+        );
+
+        when(listCategoryChangesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, expectedLimit, Pagination.UNKNOWN_TOTAL, expectedItens, expectedNext, true));
+
+        //when
+        final var request = get("/categories/changes")
+                .queryParam("since", expectedSince)
+                .queryParam("limit", String.valueOf(expectedLimit));
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        //then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNext)))
+                .andExpect(jsonPath("$.has_more", equalTo(true)))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(aCategory.getId().getValue())))
+                .andExpect(jsonPath("$.items[0].deleted", equalTo(false)))
+                .andExpect(jsonPath("$.items[0].name", equalTo(aCategory.getName())))
+                .andExpect(jsonPath("$.items[0].changed_at", equalTo(aCategory.getUpdatedAt().toString())))
+                .andExpect(jsonPath("$.items[1].id", equalTo(deletedId.getValue())))
+                .andExpect(jsonPath("$.items[1].deleted", equalTo(true)))
+                .andExpect(jsonPath("$.items[1].changed_at", equalTo(deletedAt.toString())))
+                .andExpect(jsonPath("$.items[1].name").doesNotExist());
+
+        verify(listCategoryChangesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedSince, query.since())
+                && Objects.equals(expectedLimit, query.limit())));
+        verify(getCategoryByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenTotalNone_whenCallsListCategories_thenShouldForwardTotalMode() throws Exception {
+        //given
+        final var expectedTotal = Pagination.UNKNOWN_TOTAL;
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<CategoryListOutput>(0, 10, expectedTotal, List.of(), null, false));
+
+        //when
+        final var request = get("/categories").queryParam("total", "none");
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        //then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo((int) expectedTotal)))
+                .andExpect(jsonPath("$.has_more", equalTo(false)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query -> TotalMode.NONE == query.total()));
+    }
+
+    @Test
+    public void givenAnInvalidTotal_whenCallsListCategories_thenShouldReturnUnprocessableEntity() throws Exception {
+        final var expectedErrorMessage = "'total' must be one of none, estimate or exact";
+
+        final var request = get("/categories").queryParam("total", "sometimes");
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAJsonArray_whenCallsCreateCategories_shouldReturnOneResultPerItem() throws Exception {
+        final var anApiInput = List.of(
+                new CreateCategoryRequest("Filmes", "A categoria mais assistida", null),
+                new CreateCategoryRequest(null, "A categoria mais assistida", true)
+        );
+
+        when(batchCreateCategoryUseCase.execute(any())).thenReturn(List.of(
+                new BatchCreateCategoryOutput(0, "123", List.of()),
+                new BatchCreateCategoryOutput(1, null, List.of(new Error("'name' should not be null")))
+        ));
+
+        final var request = post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(anApiInput));
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].index", equalTo(0)))
+                .andExpect(jsonPath("$[0].id", equalTo("123")))
+                .andExpect(jsonPath("$[1].index", equalTo(1)))
+                .andExpect(jsonPath("$[1].errors[0].message", equalTo("'name' should not be null")));
+
+        verify(batchCreateCategoryUseCase, times(1)).execute(argThat(cmds -> cmds.size() == 2
+                && Objects.equals("Filmes", cmds.get(0).name())
+                && cmds.get(0).isActive()
+                && cmds.get(1).name() == null));
+    }
+
+    @Test
+    public void givenANdjsonStream_whenCallsCreateCategories_shouldParseEveryLine() throws Exception {
+        final var content = """
+                {"name":"Filmes","description":"A categoria mais assistida","is_active":true}
+                {"name":"Series","description":"Categoria de séries","is_active":false}
+                """;
+
+        when(batchCreateCategoryUseCase.execute(any())).thenReturn(List.of(
+                new BatchCreateCategoryOutput(0, "123", List.of()),
+                new BatchCreateCategoryOutput(1, "456", List.of())
+        ));
+
+        final var request = post("/categories/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(content);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[1].id", equalTo("456")));
+
+        verify(batchCreateCategoryUseCase, times(1)).execute(argThat(cmds -> cmds.size() == 2
+                && Objects.equals("Series", cmds.get(1).name())
+                && !cmds.get(1).isActive()));
+    }
+
+    @Test
+    public void givenANdjsonStreamOverTheMaximumBatchSize_whenCallsCreateCategories_shouldStopReadingAfterOneExtraItem() throws Exception {
+        final var expectedItems = DefaultBatchCreateCategoryUseCase.MAX_BATCH_SIZE + 1;
+        final var content = "{\"name\":\"Filmes\"}\n".repeat(expectedItems + 10);
+
+        when(batchCreateCategoryUseCase.execute(any()))
+                .thenThrow(DomainException.with(new Error("'categories' must have at most 10000 items")));
+
+        final var request = post("/categories/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(content);
+
+        this.mvc.perform(request)
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo("'categories' must have at most 10000 items")));
+
+        verify(batchCreateCategoryUseCase, times(1)).execute(argThat(cmds -> cmds.size() == expectedItems));
+    }
+
+    @Test
+    public void givenANullItem_whenCallsCreateCategories_shouldReturnUnprocessableEntity() throws Exception {
+        final var expectedErrorMessage = "'categories' must not contain null items";
+
+        final var request = post("/categories/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"name\":\"Filmes\"}\nnull\n");
+
+        this.mvc.perform(request)
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(batchCreateCategoryUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenCsvFormat_whenCallsExportCategories_shouldStreamExporterOutput() throws Exception {
+        final var expectedBody = "id,name\n123,Filmes\n";
+
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write(expectedBody.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(categoryExporter).export(eq(CategoryExportFormat.CSV), any());
+
+        final var asyncResult = this.mvc.perform(get("/categories/export").queryParam("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(asyncResult))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", containsString("text/csv")))
+                .andExpect(header().string("Content-Disposition", containsString("categories.csv")))
+                .andExpect(content().string(expectedBody));
+    }
+
+    @Test
+    public void givenAnInvalidFormat_whenCallsExportCategories_shouldReturnUnprocessableEntity() throws Exception {
+        this.mvc.perform(get("/categories/export").queryParam("format", "xml"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("'format' must be one of ndjson or csv")));
+
+        verify(categoryExporter, never()).export(any(), any());
+    }
+}
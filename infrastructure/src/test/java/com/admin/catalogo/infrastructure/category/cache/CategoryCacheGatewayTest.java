@@ -0,0 +1,188 @@
+package com.admin.catalogo.infrastructure.category.cache;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.infrastructure.configuration.properties.CategoryCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryCacheGatewayTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CategoryCacheGateway cacheGateway;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.cacheGateway = CategoryCacheGateway.with(categoryGateway, new CategoryCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsFindByIdTwice_shouldHitDatabaseOnce() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(aCategory));
+
+        final var firstResult = cacheGateway.findById(expectedId);
+        final var secondResult = cacheGateway.findById(expectedId);
+
+        Assertions.assertEquals(expectedId, firstResult.get().getId());
+        Assertions.assertEquals(expectedId, secondResult.get().getId());
+        Assertions.assertNotSame(firstResult.get(), secondResult.get());
+
+        verify(categoryGateway, times(1)).findById(eq(expectedId));
+
+        final var stats = cacheGateway.cache().stats();
+        Assertions.assertEquals(1, stats.hitCount());
+        Assertions.assertEquals(1, stats.missCount());
+        Assertions.assertNotNull(meterRegistry.find("cache.gets").tag("cache", CategoryCacheGateway.CACHE_NAME).meter());
+    }
+
+    @Test
+    void givenACachedCategory_whenMutatesReturnedInstance_shouldNotChangeCachedValue() {
+        final var expectedName = "Filmes";
+        final var aCategory = Category.newCategory(expectedName, "A categoria mais assistida");
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(aCategory));
+
+        cacheGateway.findById(expectedId).get().update("Series", "Outra descrição", false);
+
+        Assertions.assertEquals(expectedName, cacheGateway.findById(expectedId).get().getName());
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsFindById_shouldNotCacheAbsence() {
+        final var expectedId = CategoryID.from("123");
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.empty());
+
+        Assertions.assertTrue(cacheGateway.findById(expectedId).isEmpty());
+        Assertions.assertTrue(cacheGateway.findById(expectedId).isEmpty());
+
+        verify(categoryGateway, times(2)).findById(eq(expectedId));
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsUpdate_shouldInvalidateEntry() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(aCategory));
+        when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        cacheGateway.findById(expectedId);
+        cacheGateway.update(aCategory.clone().update("Series", "Outra descrição", true));
+        cacheGateway.findById(expectedId);
+
+        verify(categoryGateway, times(2)).findById(eq(expectedId));
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsFindByIdForUpdate_shouldReadFromDelegate() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var expectedId = aCategory.getId();
+        final var changedElsewhere = aCategory.clone().update("Series", "Outra descrição", true);
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(aCategory));
+        when(categoryGateway.findByIdForUpdate(eq(expectedId))).thenReturn(Optional.of(changedElsewhere));
+
+        cacheGateway.findById(expectedId);
+
+        Assertions.assertEquals("Series", cacheGateway.findByIdForUpdate(expectedId).get().getName());
+        verify(categoryGateway, times(1)).findByIdForUpdate(eq(expectedId));
+    }
+
+    @Test
+    void givenACachedCategory_whenInvalidatedByAnotherInstanceWrite_shouldReloadIt() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(aCategory));
+
+        cacheGateway.findById(expectedId);
+        cacheGateway.invalidate(expectedId);
+        cacheGateway.findById(expectedId);
+
+        verify(categoryGateway, times(2)).findById(eq(expectedId));
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsFindUpdatedAtById_shouldAlwaysAskTheDelegate() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(aCategory));
+        when(categoryGateway.findUpdatedAtById(eq(expectedId))).thenReturn(Optional.of(aCategory.getUpdatedAt()));
+
+        cacheGateway.findById(expectedId);
+
+        Assertions.assertEquals(aCategory.getUpdatedAt(), cacheGateway.findUpdatedAtById(expectedId).get());
+        Assertions.assertEquals(aCategory.getUpdatedAt(), cacheGateway.findUpdatedAtById(expectedId).get());
+
+        verify(categoryGateway, times(2)).findUpdatedAtById(eq(expectedId));
+        Assertions.assertNotNull(cacheGateway.cache().getIfPresent(expectedId));
+    }
+
+    @Test
+    void givenACategoryChangedByAnotherInstance_whenCallsFindUpdatedAtById_shouldEvictTheStaleEntry() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var expectedId = aCategory.getId();
+        final var changedElsewhere = aCategory.getUpdatedAt().plusSeconds(1);
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(aCategory));
+        when(categoryGateway.findUpdatedAtById(eq(expectedId))).thenReturn(Optional.of(changedElsewhere));
+
+        cacheGateway.findById(expectedId);
+
+        Assertions.assertEquals(changedElsewhere, cacheGateway.findUpdatedAtById(expectedId).get());
+        Assertions.assertNull(cacheGateway.cache().getIfPresent(expectedId));
+    }
+
+    @Test
+    void givenACategoryDeletedByAnotherInstance_whenCallsFindUpdatedAtById_shouldEvictTheStaleEntry() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(aCategory));
+        when(categoryGateway.findUpdatedAtById(eq(expectedId))).thenReturn(Optional.empty());
+
+        cacheGateway.findById(expectedId);
+
+        Assertions.assertTrue(cacheGateway.findUpdatedAtById(expectedId).isEmpty());
+        Assertions.assertNull(cacheGateway.cache().getIfPresent(expectedId));
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsDeleteById_shouldInvalidateEntry() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(aCategory));
+
+        cacheGateway.findById(expectedId);
+        cacheGateway.deleteById(expectedId);
+
+        Assertions.assertNull(cacheGateway.cache().getIfPresent(expectedId));
+        verify(categoryGateway, times(1)).deleteById(eq(expectedId));
+    }
+}
@@ -0,0 +1,100 @@
+package com.admin.catalogo.infrastructure.category.export;
+
+import com.admin.catalogo.MySQLGatewayTest;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.infrastructure.category.CategoryRepository;
+import com.admin.catalogo.infrastructure.category.persistence.CategoryJPAEntity;
+import com.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import com.admin.catalogo.infrastructure.configuration.json.Json;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@MySQLGatewayTest
+class CategoryExporterTest {
+
+    @Autowired
+    private CategoryExporter categoryExporter;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    public void givenPrePersistedCategories_whenExportsAsNdjson_shouldWriteOneObjectPerLine() throws Exception {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var series = Category.newCategory("Series", null);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJPAEntity.from(filmes), CategoryJPAEntity.from(series)));
+
+        final var out = new ByteArrayOutputStream();
+        categoryExporter.export(CategoryExportFormat.NDJSON, out);
+
+        final var lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        Assertions.assertEquals(2, lines.size());
+
+        final var actualIds = lines.stream()
+                .map(line -> Json.readValue(line, CategoryResponse.class).id())
+                .toList();
+
+        Assertions.assertTrue(actualIds.contains(filmes.getId().getValue()));
+        Assertions.assertTrue(actualIds.contains(series.getId().getValue()));
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenExportsAsNdjson_shouldWriteEachObjectFollowedOnlyByANewLine() throws Exception {
+        final var entities = categoryRepository.saveAllAndFlush(List.of(
+                CategoryJPAEntity.from(Category.newCategory("Filmes", "A categoria mais assistida")),
+                CategoryJPAEntity.from(Category.newCategory("Series", null))
+        ));
+
+        final var filmesLine = Json.writeValueAsString(toResponse(entities.get(0))) + "\n";
+        final var seriesLine = Json.writeValueAsString(toResponse(entities.get(1))) + "\n";
+
+        final var out = new ByteArrayOutputStream();
+        categoryExporter.export(CategoryExportFormat.NDJSON, out);
+
+        final var actual = out.toString(StandardCharsets.UTF_8);
+        Assertions.assertTrue(actual.equals(filmesLine + seriesLine) || actual.equals(seriesLine + filmesLine), actual);
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenExportsAsCsv_shouldWriteHeaderAndEscapedLines() throws Exception {
+        final var aCategory = Category.newCategory("Filmes", "Ação, \"drama\"");
+
+        categoryRepository.saveAndFlush(CategoryJPAEntity.from(aCategory));
+
+        final var out = new ByteArrayOutputStream();
+        categoryExporter.export(CategoryExportFormat.CSV, out);
+
+        final var lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+
+        Assertions.assertEquals(2, lines.size());
+        Assertions.assertEquals("id,name,description,is_active,created_at,updated_at,deleted_at", lines.get(0));
+        Assertions.assertTrue(lines.get(1).startsWith(aCategory.getId().getValue() + ",Filmes,\"Ação, \"\"drama\"\"\",true,"));
+        Assertions.assertTrue(lines.get(1).endsWith(","));
+    }
+
+    @Test
+    public void givenEmptyCategoriesTable_whenExportsAsNdjson_shouldWriteNothing() throws Exception {
+        final var out = new ByteArrayOutputStream();
+        categoryExporter.export(CategoryExportFormat.NDJSON, out);
+
+        Assertions.assertEquals(0, out.size());
+    }
+
+    private static CategoryResponse toResponse(final CategoryJPAEntity anEntity) {
+        return new CategoryResponse(
+                anEntity.getId(),
+                anEntity.getName(),
+                anEntity.getDescription(),
+                anEntity.isActive(),
+                anEntity.getCreatedAt(),
+                anEntity.getUpdatedAt(),
+                anEntity.getDeletedAt()
+        );
+    }
+}
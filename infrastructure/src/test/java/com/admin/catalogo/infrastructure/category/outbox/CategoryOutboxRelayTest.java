@@ -0,0 +1,172 @@
+package com.admin.catalogo.infrastructure.category.outbox;
+
+import com.admin.catalogo.domain.category.Category;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+class CategoryOutboxRelayTest {
+
+    private DriverManagerDataSource dataSource;
+    private DataSourceTransactionManager transactionManager;
+    private CategoryOutbox outbox;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        this.dataSource = new DriverManagerDataSource("jdbc:h2:mem:category_outbox;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        this.transactionManager = new DataSourceTransactionManager(dataSource);
+        this.outbox = new CategoryOutbox(dataSource);
+        this.meterRegistry = new SimpleMeterRegistry();
+
+        final var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS category_outbox");
+        jdbcTemplate.execute("""
+                CREATE TABLE category_outbox (
+                    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                    category_id BINARY(16) NOT NULL,
+                    type VARCHAR(16) NOT NULL,
+                    payload TEXT NULL,
+                    occurred_at DATETIME(6) NOT NULL,
+                    published_at DATETIME(6) NULL,
+                    claimed_until DATETIME(6) NULL
+                )""");
+    }
+
+    @Test
+    void givenPendingEvents_whenDrains_shouldPublishInOrderInBatchesAndMarkThemPublished() {
+        final var categories = IntStream.range(0, 5)
+                .mapToObj(i -> Category.newCategory("Filmes " + i, null))
+                .toList();
+
+        inTransaction(() -> this.outbox.created(categories));
+        inTransaction(() -> this.outbox.deleted(categories.get(0).getId()));
+
+        final var publisher = new InMemoryCategoryEventPublisher();
+        final var relay = newRelay(publisher, 2, Duration.ofHours(1));
+
+        Assertions.assertEquals(6, relay.drain());
+
+        final var actualEvents = publisher.events();
+        Assertions.assertEquals(6, actualEvents.size());
+        Assertions.assertEquals(
+                categories.stream().map(aCategory -> aCategory.getId().getValue()).toList(),
+                actualEvents.subList(0, 5).stream().map(CategoryChangeEvent::categoryId).toList());
+        Assertions.assertEquals(CategoryChangeType.DELETED, actualEvents.get(5).type());
+        Assertions.assertTrue(actualEvents.get(0).sequence() < actualEvents.get(5).sequence());
+
+        Assertions.assertEquals(0, pending());
+        Assertions.assertEquals(6, rows());
+        Assertions.assertEquals(0, relay.drain());
+        Assertions.assertEquals(6, meterRegistry.get("outbox.events.published").counter().count());
+    }
+
+    @Test
+    void givenAFailingPublisher_whenDrains_shouldKeepTheBatchForTheNextRun() {
+        inTransaction(() -> this.outbox.created(List.of(Category.newCategory("Filmes", null))));
+
+        final CategoryEventPublisher failing = events -> {
+            throw new IllegalStateException("broker down");
+        };
+        final var relay = newRelay(failing, 10, Duration.ofHours(1));
+
+        Assertions.assertThrows(IllegalStateException.class, relay::drain);
+        Assertions.assertEquals(1, pending());
+
+        final var publisher = new InMemoryCategoryEventPublisher();
+        newRelay(publisher, 10, Duration.ofHours(1)).drain();
+
+        Assertions.assertEquals(1, publisher.events().size());
+        Assertions.assertEquals(0, pending());
+    }
+
+    @Test
+    void givenABatchBeingPublished_whenAnotherRelayDrains_shouldSkipItWithoutWaitingOnLocks() {
+        inTransaction(() -> this.outbox.created(List.of(Category.newCategory("Filmes", null))));
+
+        final var other = newRelay(new InMemoryCategoryEventPublisher(), 10, Duration.ofHours(1));
+        final var drainedByOther = new AtomicInteger(-1);
+        final var publisher = new InMemoryCategoryEventPublisher() {
+            @Override
+            public void publish(final List<CategoryChangeEvent> events) {
+                // A publicação roda fora da transação que reservou o lote
+                Assertions.assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+                drainedByOther.set(other.drain());
+                super.publish(events);
+            }
+        };
+
+        Assertions.assertEquals(1, newRelay(publisher, 10, Duration.ofHours(1)).drain());
+        Assertions.assertEquals(0, drainedByOther.get());
+        Assertions.assertEquals(1, publisher.events().size());
+        Assertions.assertEquals(0, pending());
+    }
+
+    @Test
+    void givenAnExpiredClaim_whenDrains_shouldPublishTheBatchAgain() {
+        inTransaction(() -> this.outbox.created(List.of(Category.newCategory("Filmes", null))));
+
+        // Instância que reservou o lote e caiu antes de publicar
+        new JdbcTemplate(dataSource).update("UPDATE category_outbox SET claimed_until = ?",
+                Timestamp.from(Instant.now().minusSeconds(1)));
+
+        final var publisher = new InMemoryCategoryEventPublisher();
+        Assertions.assertEquals(1, newRelay(publisher, 10, Duration.ofHours(1)).drain());
+        Assertions.assertEquals(0, pending());
+    }
+
+    @Test
+    void givenEventsPublishedLongerThanTheRetention_whenPurges_shouldDeleteOnlyThem() {
+        final var categories = IntStream.range(0, 3)
+                .mapToObj(i -> Category.newCategory("Filmes " + i, null))
+                .toList();
+        inTransaction(() -> this.outbox.created(categories));
+
+        final var publisher = new InMemoryCategoryEventPublisher();
+        newRelay(publisher, 10, Duration.ofHours(1)).drain();
+        inTransaction(() -> this.outbox.deleted(categories.get(0).getId()));
+
+        // Com retention zero tudo que já foi publicado expira; o evento ainda pendente fica
+        final var relay = newRelay(publisher, 2, Duration.ZERO);
+
+        Assertions.assertEquals(3, relay.purge());
+        Assertions.assertEquals(1, rows());
+        Assertions.assertEquals(1, pending());
+    }
+
+    @Test
+    void givenNoTransaction_whenAppendsEvent_shouldFail() {
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> this.outbox.created(List.of(Category.newCategory("Filmes", null))));
+    }
+
+    private CategoryOutboxRelay newRelay(final CategoryEventPublisher publisher, final int batchSize, final Duration retention) {
+        return new CategoryOutboxRelay(
+                dataSource, transactionManager, publisher, batchSize, Duration.ofSeconds(1), Duration.ofSeconds(30), retention, meterRegistry);
+    }
+
+    private void inTransaction(final Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+    }
+
+    private int pending() {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM category_outbox WHERE published_at IS NULL", Integer.class);
+    }
+
+    private int rows() {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM category_outbox", Integer.class);
+    }
+}
@@ -0,0 +1,33 @@
+package com.admin.catalogo.infrastructure.category.outbox;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+class FileCategoryEventPublisherTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenTwoBatches_whenPublishes_shouldAppendOneJsonLinePerEvent() throws Exception {
+        final var publisher = new FileCategoryEventPublisher(directory.resolve("events/category-events.ndjson"));
+
+        publisher.publish(List.of(
+                new CategoryChangeEvent(1, CategoryChangeType.CREATED, "123", Instant.now(), "{\"id\":\"123\"}")));
+        publisher.publish(List.of(
+                new CategoryChangeEvent(2, CategoryChangeType.DELETED, "123", Instant.now(), null)));
+
+        final var lines = Files.readAllLines(publisher.file());
+
+        Assertions.assertEquals(2, lines.size());
+        Assertions.assertTrue(lines.get(0).contains("\"category\":{\"id\":\"123\"}"));
+        Assertions.assertTrue(lines.get(1).contains("\"type\":\"DELETED\""));
+        Assertions.assertTrue(lines.get(1).contains("\"category\":null"));
+    }
+}
@@ -0,0 +1,27 @@
+package com.admin.catalogo.infrastructure.category.persistence;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BinaryUUIDsTest {
+
+    @Test
+    public void givenACanonicalUUID_whenConvertsToBytesAndBack_shouldReturnTheSameId() {
+        final var expectedId = "0f8b2a1c-3d4e-4f5a-9b6c-7d8e9fa0b1c2";
+
+        Assertions.assertTrue(BinaryUUIDs.isValid(expectedId));
+        Assertions.assertEquals(expectedId, BinaryUUIDs.fromBytes(BinaryUUIDs.toBytes(expectedId)));
+        Assertions.assertTrue(BinaryUUIDs.isValid(expectedId.toUpperCase()));
+    }
+
+    @Test
+    public void givenNonAsciiDigits_whenCallsIsValid_shouldReturnFalse() {
+        //U+0661 (árabe-índico 1) e U+FF41 (fullwidth 'a') são dígitos hexadecimais para o Character.digit
+        final var arabicIndicDigit = "0f8b2a1c-3d4e-4f5a-9b6c-7d8e9fa0b1c\u0661";
+        final var fullwidthLetter = "\uFF41f8b2a1c-3d4e-4f5a-9b6c-7d8e9fa0b1c2";
+
+        Assertions.assertFalse(BinaryUUIDs.isValid(arabicIndicDigit));
+        Assertions.assertFalse(BinaryUUIDs.isValid(fullwidthLetter));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BinaryUUIDs.toBytes(arabicIndicDigit));
+    }
+}
@@ -2,15 +2,29 @@ package com.admin.catalogo.infrastructure.category.persistence;
 
 import com.admin.catalogo.MySQLGatewayTest;
 import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryChange;
+import com.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.admin.catalogo.domain.category.CategoryField;
 import com.admin.catalogo.domain.category.CategoryID;
 import com.admin.catalogo.domain.category.CategorySearchQuery;
+import com.admin.catalogo.domain.exceptions.ConflictException;
+import com.admin.catalogo.domain.exceptions.DomainException;
 import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.TotalMode;
 import com.admin.catalogo.infrastructure.category.CategoryRepository;
+import com.admin.catalogo.infrastructure.category.CategoryTombstoneRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 
 @MySQLGatewayTest
@@ -22,6 +36,15 @@ class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CategoryTombstoneRepository categoryTombstoneRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     public void testInjectDependencies() {
         Assertions.assertNotNull(categoryMySQLGateway);
@@ -63,6 +86,28 @@ class CategoryMySQLGatewayTest {
         Assertions.assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    void givenValidCategories_whenCallsCreateAll_shouldPersistAllOfThem() {
+        final var someCategories = new ArrayList<Category>();
+        for (int i = 0; i < 120; i++) {
+            someCategories.add(Category.newCategory("Categoria " + i, "Descrição " + i));
+        }
+
+        Assertions.assertEquals(0, categoryRepository.count());
+
+        final var actualCategories = categoryMySQLGateway.createAll(someCategories);
+
+        Assertions.assertEquals(120, categoryRepository.count());
+        Assertions.assertEquals(120, actualCategories.size());
+
+        final var aCategory = someCategories.get(77);
+        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+
+        Assertions.assertEquals(aCategory.getName(), actualEntity.getName());
+        Assertions.assertEquals(aCategory.getDescription(), actualEntity.getDescription());
+        Assertions.assertEquals(aCategory.getCreatedAt(), actualEntity.getCreatedAt());
+    }
+
     @Test
     void givenAValidCategory_whenCallsUpdate_shouldReturnACategory() {
         final var expectedName = "Filmes";
@@ -112,6 +157,89 @@ class CategoryMySQLGatewayTest {
         Assertions.assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    void givenAValidCategory_whenCallsUpdate_shouldIncrementVersion() {
+        final var aCategory = Category.newCategory("Film", null);
+        categoryRepository.saveAndFlush(CategoryJPAEntity.from(aCategory));
+
+        final var actualCategory = categoryMySQLGateway.update(aCategory.clone().update("Filmes", null, true));
+
+        Assertions.assertEquals(1, actualCategory.getVersion());
+        Assertions.assertEquals(1, categoryRepository.findById(aCategory.getId().getValue()).get().getVersion());
+    }
+
+    @Test
+    void givenAStaleVersion_whenCallsUpdate_shouldThrowConflictAndKeepStoredCategory() {
+        final var aCategory = Category.newCategory("Film", null);
+        categoryRepository.saveAndFlush(CategoryJPAEntity.from(aCategory));
+
+        categoryMySQLGateway.update(aCategory.clone().update("Filmes", null, true));
+
+        final var aStaleCategory = aCategory.clone().update("Series", null, true);
+
+        Assertions.assertThrows(ConflictException.class, () -> categoryMySQLGateway.update(aStaleCategory));
+
+        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+        Assertions.assertEquals("Filmes", actualEntity.getName());
+        Assertions.assertEquals(1, actualEntity.getVersion());
+    }
+
+    @Test
+    void givenChangedFields_whenCallsPartialUpdate_shouldWriteOnlyThoseColumns() {
+        final var aCategory = Category.newCategory("Film", "Descrição da categoria");
+        categoryRepository.saveAndFlush(CategoryJPAEntity.from(aCategory));
+
+        // name diverge do banco no agregado, mas não está entre os campos alterados
+        final var aPatchedCategory = aCategory.clone();
+        aPatchedCategory.setName("Nunca gravado");
+        aPatchedCategory.deactivate();
+
+        final var actualCategory = categoryMySQLGateway.update(aPatchedCategory, Set.of(CategoryField.ACTIVE));
+
+        Assertions.assertEquals(1, actualCategory.getVersion());
+
+        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+        Assertions.assertEquals("Film", actualEntity.getName());
+        Assertions.assertEquals("Descrição da categoria", actualEntity.getDescription());
+        Assertions.assertFalse(actualEntity.isActive());
+        Assertions.assertNotNull(actualEntity.getDeletedAt());
+        Assertions.assertEquals(aPatchedCategory.getUpdatedAt(), actualEntity.getUpdatedAt());
+        Assertions.assertEquals(1, actualEntity.getVersion());
+    }
+
+    @Test
+    void givenAStaleVersion_whenCallsPartialUpdate_shouldThrowConflict() {
+        final var aCategory = Category.newCategory("Film", null);
+        categoryRepository.saveAndFlush(CategoryJPAEntity.from(aCategory));
+
+        categoryMySQLGateway.update(aCategory.clone().update("Filmes", null, true));
+
+        final var aStaleCategory = aCategory.clone().deactivate();
+
+        Assertions.assertThrows(ConflictException.class,
+                () -> categoryMySQLGateway.update(aStaleCategory, Set.of(CategoryField.ACTIVE)));
+    }
+
+    @Test
+    void givenCategoryWrites_whenCallsGateway_shouldAppendOutboxEventsInTheSameTransaction() {
+        final var aCategory = categoryMySQLGateway.create(Category.newCategory("Film", null));
+        categoryMySQLGateway.update(aCategory.clone().update("Filmes", null, true));
+        categoryMySQLGateway.deleteById(aCategory.getId());
+        categoryMySQLGateway.deleteById(CategoryID.unique());
+
+        // Outras classes de teste commitam no mesmo banco: só os eventos desta categoria interessam
+        final var actualEvents = new JdbcTemplate(dataSource).queryForList(
+                "SELECT category_id, type, payload FROM category_outbox WHERE category_id = ? ORDER BY id",
+                (Object) BinaryUUIDs.toBytes(aCategory.getId().getValue()));
+
+        Assertions.assertEquals(3, actualEvents.size());
+        Assertions.assertEquals(List.of("CREATED", "UPDATED", "DELETED"),
+                actualEvents.stream().map(row -> row.get("type")).toList());
+        actualEvents.forEach(row -> Assertions.assertEquals(aCategory.getId().getValue(), BinaryUUIDs.fromBytes((byte[]) row.get("category_id"))));
+        Assertions.assertTrue(actualEvents.get(1).get("payload").toString().contains("\"name\":\"Filmes\""));
+        Assertions.assertNull(actualEvents.get(2).get("payload"));
+    }
+
     @Test
     public void givenAPrePersistedCategoryAndValidCategoryId_whenTryToDeleteIt_shouldDeleteCategory() {
         Category aCategory = Category.newCategory("Filmes", null);
@@ -127,6 +255,25 @@ class CategoryMySQLGatewayTest {
         Assertions.assertEquals(0, categoryRepository.count());
     }
 
+    @Test
+    public void givenAValidCategoryIdNotStored_whenTryToDeleteIt_shouldDoNothing() {
+        categoryRepository.saveAndFlush(CategoryJPAEntity.from(Category.newCategory("Filmes", null)));
+
+        categoryMySQLGateway.deleteById(CategoryID.unique());
+
+        Assertions.assertEquals(1, categoryRepository.count());
+    }
+
+    @Test
+    void givenANewCategory_whenConvertsToEntity_shouldBeNewUntilPersisted() {
+        final var anEntity = CategoryJPAEntity.from(Category.newCategory("Filmes", null));
+        Assertions.assertTrue(anEntity.isNew());
+
+        categoryRepository.saveAndFlush(anEntity);
+
+        Assertions.assertFalse(anEntity.isNew());
+    }
+
     @Test
     public void givenInvalidCategoryId_whenTryToDeleteIt_shouldDeleteCategory() {
         Assertions.assertEquals(0, categoryRepository.count());
@@ -174,6 +321,29 @@ class CategoryMySQLGatewayTest {
         Assertions.assertTrue(actualCategory.isEmpty());
     }
 
+    @Test
+    void givenAPrePersistedCategory_whenCallsFindByIdForUpdate_shouldReturnCategory() {
+        final var aCategory = Category.newCategory("Filmes", "Descrição da categoria", true);
+        categoryRepository.saveAndFlush(CategoryJPAEntity.from(aCategory));
+
+        final var actualCategory = categoryMySQLGateway.findByIdForUpdate(aCategory.getId()).get();
+
+        Assertions.assertEquals(aCategory.getId(), actualCategory.getId());
+        Assertions.assertEquals(aCategory.getUpdatedAt(), actualCategory.getUpdatedAt());
+        Assertions.assertTrue(categoryMySQLGateway.findByIdForUpdate(CategoryID.from("123")).isEmpty());
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsFindUpdatedAtById_shouldReturnOnlyTheVersion() {
+        final var aCategory = Category.newCategory("Filmes", "Descrição da categoria", true);
+
+        categoryRepository.saveAndFlush(CategoryJPAEntity.from(aCategory));
+
+        Assertions.assertEquals(aCategory.getUpdatedAt(), categoryMySQLGateway.findUpdatedAtById(aCategory.getId()).get());
+        Assertions.assertTrue(categoryMySQLGateway.findUpdatedAtById(CategoryID.unique()).isEmpty());
+        Assertions.assertTrue(categoryMySQLGateway.findUpdatedAtById(CategoryID.from("123")).isEmpty());
+    }
+
     @Test
     public void givenPrePersistedCategories_whenCallsFindAll_shouldReturnPaginated() {
         final var expectedPage = 0;
@@ -205,6 +375,22 @@ class CategoryMySQLGatewayTest {
         Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
     }
 
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAll_shouldNotLoadEntitiesIntoPersistenceContext() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var series = Category.newCategory("Series", null);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJPAEntity.from(filmes), CategoryJPAEntity.from(series)));
+        entityManager.clear();
+
+        final var actualResult = categoryMySQLGateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(2, actualResult.items().size());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(filmes.getDescription(), actualResult.items().get(0).getDescription());
+        Assertions.assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
     @Test
     public void givenEmptyCategoriesTable_whenCallsFindAll_shouldReturnEmptyPaginated() {
         final var expectedPage = 0;
@@ -340,4 +526,310 @@ class CategoryMySQLGatewayTest {
         Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void givenFollowCursor_whenCallsFindAllWithNextCursor_shouldReturnNextPageByKeyset() {
+        final var expectedPerPage = 1;
+        final var expectedTotal = 3;
+
+        final var filmes = Category.newCategory("Filmes", null);
+        final var series = Category.newCategory("Series", null);
+        final var documentarios = Category.newCategory("Documentarios", null);
+
+        categoryRepository.saveAll(
+                List.of(filmes, series, documentarios)
+                        .stream().map(CategoryJPAEntity::from)
+                        .toList()
+        );
+
+        //Page 0 (offset)
+        var query = new CategorySearchQuery(0, 1, "", "name", "asc");
+        var result = categoryMySQLGateway.findAll(query);
+
+        Assertions.assertEquals(documentarios.getId(), result.items().get(0).getId());
+        Assertions.assertNotNull(result.nextCursor());
+
+        //Next page (keyset)
+        query = new CategorySearchQuery(0, 1, "", "name", "asc", result.nextCursor(), TotalMode.EXACT);
+        result = categoryMySQLGateway.findAll(query);
+
+        Assertions.assertEquals(expectedPerPage, result.items().size());
+        Assertions.assertEquals(expectedTotal, result.total());
+        Assertions.assertEquals(filmes.getId(), result.items().get(0).getId());
+        Assertions.assertNotNull(result.nextCursor());
+
+        //Last page (keyset)
+        query = new CategorySearchQuery(0, 1, "", "name", "asc", result.nextCursor(), TotalMode.EXACT);
+        result = categoryMySQLGateway.findAll(query);
+
+        Assertions.assertEquals(expectedPerPage, result.items().size());
+        Assertions.assertEquals(series.getId(), result.items().get(0).getId());
+        Assertions.assertNull(result.nextCursor());
+    }
+
+    @Test
+    public void givenNullableSortColumn_whenFollowsCursorDescending_shouldVisitEveryCategoryOnce() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var series = Category.newCategory("Series", null);
+        final var documentarios = Category.newCategory("Documentarios", "Uma categoria assistida");
+        final var kids = Category.newCategory("Kids", null);
+
+        categoryRepository.saveAll(
+                List.of(filmes, series, documentarios, kids)
+                        .stream().map(CategoryJPAEntity::from)
+                        .toList()
+        );
+
+        final var actualIds = new ArrayList<CategoryID>();
+        var query = new CategorySearchQuery(0, 1, "", "description", "desc");
+        var result = categoryMySQLGateway.findAll(query);
+        result.items().forEach(it -> actualIds.add(it.getId()));
+
+        while (result.nextCursor() != null) {
+            query = new CategorySearchQuery(0, 1, "", "description", "desc", result.nextCursor(), TotalMode.EXACT);
+            result = categoryMySQLGateway.findAll(query);
+            result.items().forEach(it -> actualIds.add(it.getId()));
+        }
+
+        Assertions.assertEquals(4, actualIds.size());
+        Assertions.assertEquals(documentarios.getId(), actualIds.get(0));
+        Assertions.assertEquals(filmes.getId(), actualIds.get(1));
+        Assertions.assertTrue(actualIds.containsAll(List.of(series.getId(), kids.getId())));
+    }
+
+    @Test
+    public void givenAnInvalidCursor_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'cursor' is invalid";
+
+        final var query = new CategorySearchQuery(0, 1, "", "name", "asc", "<invalid cursor>", TotalMode.EXACT);
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> categoryMySQLGateway.findAll(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenTotalNone_whenCallsFindAll_shouldSkipCountAndComputeHasMore() {
+        final var expectedPerPage = 2;
+        final var expectedTotal = Pagination.UNKNOWN_TOTAL;
+
+        final var filmes = Category.newCategory("Filmes", null);
+        final var series = Category.newCategory("Series", null);
+        final var documentarios = Category.newCategory("Documentarios", null);
+
+        categoryRepository.saveAll(
+                List.of(filmes, series, documentarios)
+                        .stream().map(CategoryJPAEntity::from)
+                        .toList()
+        );
+
+        //Page 0
+        var query = new CategorySearchQuery(0, expectedPerPage, "", "name", "asc", null, TotalMode.NONE);
+        var result = categoryMySQLGateway.findAll(query);
+
+        Assertions.assertEquals(expectedTotal, result.total());
+        Assertions.assertEquals(expectedPerPage, result.items().size());
+        Assertions.assertTrue(result.hasMore());
+
+        //Page 1
+        query = new CategorySearchQuery(1, expectedPerPage, "", "name", "asc", null, TotalMode.NONE);
+        result = categoryMySQLGateway.findAll(query);
+
+        Assertions.assertEquals(expectedTotal, result.total());
+        Assertions.assertEquals(1, result.items().size());
+        Assertions.assertFalse(result.hasMore());
+        Assertions.assertEquals(series.getId(), result.items().get(0).getId());
+    }
+
+    @Test
+    public void givenTotalEstimate_whenCallsFindAll_shouldReturnCountedTotal() {
+        final var expectedTotal = 3;
+
+        categoryRepository.saveAll(
+                List.of(
+                        Category.newCategory("Filmes", "Aproximado"),
+                        Category.newCategory("Series", "Aproximado"),
+                        Category.newCategory("Documentarios", "Aproximado")
+                ).stream().map(CategoryJPAEntity::from).toList()
+        );
+
+        // Termo próprio: o cache de totais estimados vive no gateway, que é compartilhado entre os testes
+        final var query = new CategorySearchQuery(0, 1, "aproximado", "name", "asc", null, TotalMode.ESTIMATE);
+        final var result = categoryMySQLGateway.findAll(query);
+
+        Assertions.assertEquals(expectedTotal, result.total());
+        Assertions.assertTrue(result.hasMore());
+    }
+
+    @Test
+    public void givenTermsDifferingOnlyInCaseAndSpaces_whenCallsFindAllWithTotalEstimate_shouldCountTheNormalizedTerm() {
+        final var expectedTotal = 2;
+
+        categoryRepository.saveAll(
+                List.of(
+                        Category.newCategory("Filmes", "Estimativa"),
+                        Category.newCategory("Series", "Estimativa"),
+                        Category.newCategory("Documentarios", null)
+                ).stream().map(CategoryJPAEntity::from).toList()
+        );
+
+        final var padded = categoryMySQLGateway.findAll(
+                new CategorySearchQuery(0, 1, "  estimativa ", "name", "asc", null, TotalMode.ESTIMATE));
+        final var upper = categoryMySQLGateway.findAll(
+                new CategorySearchQuery(0, 1, "ESTIMATIVA", "name", "asc", null, TotalMode.ESTIMATE));
+
+        Assertions.assertEquals(expectedTotal, padded.total());
+        Assertions.assertEquals(expectedTotal, upper.total());
+    }
+
+    @Test
+    public void givenAPageBeyondTheMaximumOffset_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'page' must be between 0 and 21474836";
+
+        final var query = new CategorySearchQuery(Integer.MAX_VALUE, 100, "", "name", "asc");
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> categoryMySQLGateway.findAll(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenRelevanceSortWithoutFullTextIndex_whenCallsFindAll_shouldFallbackToNameOrder() {
+        final var expectedTotal = 2;
+
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var series = Category.newCategory("Series", "Uma categoria assistida");
+        final var documentarios = Category.newCategory("Documentarios", "Sem relação");
+
+        categoryRepository.saveAll(
+                List.of(filmes, series, documentarios)
+                        .stream().map(CategoryJPAEntity::from)
+                        .toList()
+        );
+
+        Assertions.assertFalse(categoryRepository.supportsFullText());
+
+        final var query = new CategorySearchQuery(0, 10, "assistida", "relevance", "asc");
+        final var result = categoryMySQLGateway.findAll(query);
+
+        Assertions.assertEquals(expectedTotal, result.total());
+        Assertions.assertEquals(filmes.getId(), result.items().get(0).getId());
+        Assertions.assertEquals(series.getId(), result.items().get(1).getId());
+        Assertions.assertNull(result.nextCursor());
+    }
+
+    @Test
+    public void givenRelevanceSortDescending_whenCallsFindAll_shouldReverseTheOrder() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var series = Category.newCategory("Series", "Uma categoria assistida");
+
+        categoryRepository.saveAll(
+                List.of(filmes, series)
+                        .stream().map(CategoryJPAEntity::from)
+                        .toList()
+        );
+
+        final var query = new CategorySearchQuery(0, 10, "assistida", "relevance", "desc");
+        final var result = categoryMySQLGateway.findAll(query);
+
+        Assertions.assertEquals(series.getId(), result.items().get(0).getId());
+        Assertions.assertEquals(filmes.getId(), result.items().get(1).getId());
+    }
+
+    @Test
+    public void givenTermsWithTokensTooShortForFullText_whenBuildsFilter_shouldRequireEachOneByLike() {
+        final var tv = Category.newCategory("TV Samsung", "Televisores");
+        final var galaxy = Category.newCategory("Samsung Galaxy", "Celulares");
+
+        categoryRepository.saveAll(List.of(CategoryJPAEntity.from(tv), CategoryJPAEntity.from(galaxy)));
+
+        // Esse filtro vai junto do MATCH(+SAMSUNG*); sem ele a busca traria todas as categorias Samsung
+        final var actualIds = categoryRepository.findAll(CategoryMySQLGateway.shortTokensLike("TV SAMSUNG"), PageRequest.of(0, 10))
+                .map(CategoryJPAEntity::getId)
+                .toList();
+
+        Assertions.assertEquals(List.of(tv.getId().getValue()), actualIds);
+        Assertions.assertNull(CategoryMySQLGateway.shortTokensLike("SAMSUNG GALAXY"));
+    }
+
+    @Test
+    public void givenAChangesToken_whenCallsFindChanges_shouldReturnOnlyLaterChanges() {
+        final var filmes = Category.newCategory("Filmes", null);
+        final var series = Category.newCategory("Series", null);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJPAEntity.from(filmes), CategoryJPAEntity.from(series)));
+
+        final var firstSync = categoryMySQLGateway.findChanges(new CategoryChangesQuery(null, 10));
+
+        Assertions.assertEquals(2, firstSync.items().size());
+        Assertions.assertFalse(firstSync.hasMore());
+        Assertions.assertNotNull(firstSync.nextCursor());
+
+        categoryMySQLGateway.update(filmes.clone().update("Filmes e Series", null, true));
+
+        final var secondSync = categoryMySQLGateway.findChanges(new CategoryChangesQuery(firstSync.nextCursor(), 10));
+
+        Assertions.assertEquals(1, secondSync.items().size());
+        Assertions.assertEquals(filmes.getId(), secondSync.items().get(0).id());
+        Assertions.assertEquals("Filmes e Series", secondSync.items().get(0).category().getName());
+
+        final var thirdSync = categoryMySQLGateway.findChanges(new CategoryChangesQuery(secondSync.nextCursor(), 10));
+
+        Assertions.assertTrue(thirdSync.items().isEmpty());
+        Assertions.assertEquals(secondSync.nextCursor(), thirdSync.nextCursor());
+    }
+
+    @Test
+    public void givenADeletedCategory_whenCallsFindChanges_shouldReturnTombstone() {
+        final var aCategory = categoryMySQLGateway.create(Category.newCategory("Filmes", null));
+
+        final var since = categoryMySQLGateway.findChanges(new CategoryChangesQuery(null, 10)).nextCursor();
+
+        categoryMySQLGateway.deleteById(aCategory.getId());
+        categoryMySQLGateway.deleteById(aCategory.getId());
+
+        Assertions.assertEquals(1, categoryTombstoneRepository.count());
+
+        final var actualResult = categoryMySQLGateway.findChanges(new CategoryChangesQuery(since, 10));
+
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals(aCategory.getId(), actualResult.items().get(0).id());
+        Assertions.assertTrue(actualResult.items().get(0).isDeleted());
+    }
+
+    @Test
+    public void givenMoreChangesThanLimit_whenFollowsChangesToken_shouldVisitEveryChangeOnce() {
+        final var categories = List.of(
+                Category.newCategory("Filmes", null),
+                Category.newCategory("Series", null),
+                Category.newCategory("Documentarios", null)
+        );
+
+        categoryRepository.saveAllAndFlush(categories.stream().map(CategoryJPAEntity::from).toList());
+        categoryMySQLGateway.deleteById(categories.get(0).getId());
+
+        final var visited = new ArrayList<CategoryChange>();
+        String since = null;
+        Pagination<CategoryChange> actualPage;
+
+        do {
+            actualPage = categoryMySQLGateway.findChanges(new CategoryChangesQuery(since, 2));
+            visited.addAll(actualPage.items());
+            since = actualPage.nextCursor();
+        } while (actualPage.hasMore());
+
+        Assertions.assertEquals(3, visited.size());
+        Assertions.assertEquals(3, visited.stream().map(CategoryChange::id).distinct().count());
+        Assertions.assertTrue(visited.stream().anyMatch(aChange ->
+                aChange.isDeleted() && aChange.id().equals(categories.get(0).getId())));
+    }
+
+    @Test
+    public void givenAnInvalidChangesToken_whenCallsFindChanges_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'since' is invalid";
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> categoryMySQLGateway.findChanges(new CategoryChangesQuery("<invalid>", 10)));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -0,0 +1,90 @@
+package com.admin.catalogo.infrastructure.category.persistence;
+
+import com.admin.catalogo.MySQLGatewayTest;
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.infrastructure.configuration.HibernateCacheConfig;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+// Sem a transação do teste: o cache de segundo nível só é atualizado/invalidado no commit
+@MySQLGatewayTest
+@Import(HibernateCacheConfig.class)
+@TestPropertySource(properties = "cache.hibernate.enabled=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CategorySecondLevelCacheTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryMySQLGateway;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void cleanUp() {
+        final var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM category_outbox");
+        jdbcTemplate.update("DELETE FROM category_tombstone");
+        jdbcTemplate.update("DELETE FROM category");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void givenAPersistedCategory_whenCallsFindByIdTwice_shouldLoadFromDatabaseOnce() {
+        final var aCategory = categoryMySQLGateway.create(Category.newCategory("Filmes", null));
+        final var expectedId = aCategory.getId();
+
+        entityManagerFactory.getCache().evictAll();
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        categoryMySQLGateway.findById(expectedId);
+        final var actualCategory = categoryMySQLGateway.findById(expectedId);
+
+        Assertions.assertEquals(expectedId, actualCategory.get().getId());
+        Assertions.assertEquals(1, statistics.getSecondLevelCacheMissCount());
+        Assertions.assertEquals(1, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsUpdate_shouldEvictAndReturnNewState() {
+        final var aCategory = categoryMySQLGateway.create(Category.newCategory("Film", null));
+        final var expectedId = aCategory.getId();
+
+        final var cached = categoryMySQLGateway.findById(expectedId).get();
+        Assertions.assertTrue(entityManagerFactory.getCache().contains(CategoryJPAEntity.class, expectedId.getValue()));
+
+        categoryMySQLGateway.update(cached.update("Filmes", null, true));
+
+        Assertions.assertFalse(entityManagerFactory.getCache().contains(CategoryJPAEntity.class, expectedId.getValue()));
+
+        final var actualCategory = categoryMySQLGateway.findById(expectedId).get();
+        Assertions.assertEquals("Filmes", actualCategory.getName());
+        Assertions.assertEquals(1, actualCategory.getVersion());
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsDeleteById_shouldNotFindItAnymore() {
+        final var aCategory = categoryMySQLGateway.create(Category.newCategory("Filmes", null));
+        final var expectedId = aCategory.getId();
+
+        categoryMySQLGateway.findById(expectedId);
+        categoryMySQLGateway.deleteById(expectedId);
+
+        Assertions.assertTrue(categoryMySQLGateway.findById(expectedId).isEmpty());
+        Assertions.assertTrue(categoryMySQLGateway.findUpdatedAtById(expectedId).isEmpty());
+    }
+}
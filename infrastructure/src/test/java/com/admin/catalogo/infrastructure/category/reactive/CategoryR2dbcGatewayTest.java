@@ -0,0 +1,196 @@
+package com.admin.catalogo.infrastructure.category.reactive;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryID;
+import com.admin.catalogo.domain.category.CategorySearchQuery;
+import com.admin.catalogo.domain.exceptions.ConflictException;
+import com.admin.catalogo.domain.exceptions.DomainException;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.TotalMode;
+import com.admin.catalogo.infrastructure.category.persistence.BinaryUUIDs;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+class CategoryR2dbcGatewayTest {
+
+    private DatabaseClient databaseClient;
+
+    private CategoryR2dbcGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        final var connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///adm_videos_reactive_test;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+
+        this.databaseClient.sql("DROP TABLE IF EXISTS category").then().block();
+        this.databaseClient.sql("""
+                CREATE TABLE category (
+                    id BINARY(16) NOT NULL PRIMARY KEY,
+                    name  VARCHAR(255) NOT NULL,
+                    description  VARCHAR(4000) NULL,
+                    active BOOLEAN NOT NULL DEFAULT TRUE,
+                    created_at DATETIME(9) NOT NULL,
+                    updated_at DATETIME(9) NOT NULL,
+                    deleted_at DATETIME(9) NULL,
+                    version BIGINT NOT NULL DEFAULT 0
+                )""").then().block();
+        this.databaseClient.sql("DROP TABLE IF EXISTS category_tombstone").then().block();
+        this.databaseClient.sql("""
+                CREATE TABLE category_tombstone (
+                    id BINARY(16) NOT NULL PRIMARY KEY,
+                    deleted_at DATETIME(6) NOT NULL
+                )""").then().block();
+        this.databaseClient.sql("DROP TABLE IF EXISTS category_outbox").then().block();
+        this.databaseClient.sql("""
+                CREATE TABLE category_outbox (
+                    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                    category_id BINARY(16) NOT NULL,
+                    type VARCHAR(16) NOT NULL,
+                    payload TEXT NULL,
+                    occurred_at DATETIME(6) NOT NULL
+                )""").then().block();
+
+        final var transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+        this.categoryGateway = new CategoryR2dbcGateway(databaseClient, transactionalOperator);
+    }
+
+    @Test
+    void givenAValidCategory_whenCallsCreate_shouldPersistAndFindById() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        categoryGateway.create(aCategory).join();
+
+        final var actualCategory = categoryGateway.findById(aCategory.getId()).join().orElseThrow();
+
+        Assertions.assertEquals(aCategory.getId(), actualCategory.getId());
+        Assertions.assertEquals("Filmes", actualCategory.getName());
+        Assertions.assertNull(actualCategory.getDescription());
+        Assertions.assertTrue(actualCategory.isActive());
+        Assertions.assertEquals(aCategory.getCreatedAt().truncatedTo(ChronoUnit.MICROS),
+                actualCategory.getCreatedAt().truncatedTo(ChronoUnit.MICROS));
+        Assertions.assertNull(actualCategory.getDeletedAt());
+    }
+
+    @Test
+    void givenAPersistedCategory_whenCallsUpdateAndDelete_shouldChangeTheRow() {
+        final var aCategory = Category.newCategory("Film", "Descrição", true);
+        categoryGateway.create(aCategory).join();
+
+        categoryGateway.update(aCategory.clone().update("Filmes", "A categoria mais assistida", false)).join();
+
+        final var updated = categoryGateway.findById(aCategory.getId()).join().orElseThrow();
+        Assertions.assertEquals("Filmes", updated.getName());
+        Assertions.assertFalse(updated.isActive());
+        Assertions.assertNotNull(updated.getDeletedAt());
+
+        categoryGateway.deleteById(aCategory.getId()).join();
+
+        Assertions.assertTrue(categoryGateway.findById(aCategory.getId()).join().isEmpty());
+    }
+
+    @Test
+    void givenAStaleVersion_whenCallsUpdate_shouldFailWithConflictAndKeepStoredCategory() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        categoryGateway.create(aCategory).join();
+
+        final var current = categoryGateway.findById(aCategory.getId()).join().orElseThrow();
+        final var stale = current.clone();
+
+        final var updated = categoryGateway.update(current.update("Series", null, true)).join();
+        Assertions.assertEquals(1, updated.getVersion());
+
+        final var actualException = Assertions.assertThrows(CompletionException.class,
+                () -> categoryGateway.update(stale.update("Documentarios", null, true)).join());
+
+        Assertions.assertInstanceOf(ConflictException.class, actualException.getCause());
+
+        final var stored = categoryGateway.findById(aCategory.getId()).join().orElseThrow();
+        Assertions.assertEquals("Series", stored.getName());
+        Assertions.assertEquals(1, stored.getVersion());
+    }
+
+    @Test
+    void givenCategoryWrites_whenCallsGateway_shouldAppendOutboxEventsInOrder() {
+        final var aCategory = Category.newCategory("Film", null, true);
+
+        categoryGateway.create(aCategory).join();
+        categoryGateway.update(aCategory.update("Filmes", null, true)).join();
+
+        final var events = databaseClient.sql("SELECT type, category_id, payload FROM category_outbox ORDER BY id")
+                .map((row, metadata) -> row.get("type", String.class) + "|" + BinaryUUIDs.fromBytes(row.get("category_id", byte[].class))
+                        + "|" + row.get("payload", String.class).contains("\"Filmes\""))
+                .all()
+                .collectList()
+                .block();
+
+        final var expectedId = aCategory.getId().getValue();
+        Assertions.assertEquals(List.of("CREATED|%s|false".formatted(expectedId), "UPDATED|%s|true".formatted(expectedId)), events);
+    }
+
+    @Test
+    void givenAPersistedCategory_whenCallsDelete_shouldWriteTombstoneAndOutboxEvent() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        categoryGateway.create(aCategory).join();
+
+        categoryGateway.deleteById(aCategory.getId()).join();
+        categoryGateway.deleteById(CategoryID.from("0f8b2a1c-3d4e-4f5a-9b6c-7d8e9fa0b1c2")).join();
+
+        final var tombstones = databaseClient.sql("SELECT COUNT(*) AS total FROM category_tombstone")
+                .map((row, metadata) -> row.get("total", Long.class))
+                .one()
+                .block();
+        final var deletedEvents = databaseClient.sql("SELECT category_id FROM category_outbox WHERE type = 'DELETED'")
+                .map((row, metadata) -> BinaryUUIDs.fromBytes(row.get("category_id", byte[].class)))
+                .all()
+                .collectList()
+                .block();
+
+        Assertions.assertEquals(1, tombstones);
+        Assertions.assertEquals(List.of(aCategory.getId().getValue()), deletedEvents);
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsFindById_shouldReturnEmpty() {
+        Assertions.assertTrue(categoryGateway.findById(CategoryID.from("empty")).join().isEmpty());
+    }
+
+    @Test
+    void givenPersistedCategories_whenCallsFindAllWithTerms_shouldReturnPaginated() {
+        for (final var name : List.of("Filmes", "Series", "Documentarios", "Docs curtos")) {
+            categoryGateway.create(Category.newCategory(name, "Categoria " + name, true)).join();
+        }
+
+        final var firstPage = categoryGateway.findAll(new CategorySearchQuery(0, 1, "doc", "name", "asc")).join();
+
+        Assertions.assertEquals(2, firstPage.total());
+        Assertions.assertTrue(firstPage.hasMore());
+        Assertions.assertEquals("Docs curtos", firstPage.items().get(0).getName());
+
+        final var secondPage = categoryGateway.findAll(
+                new CategorySearchQuery(1, 1, "doc", "name", "asc", null, TotalMode.NONE)).join();
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, secondPage.total());
+        Assertions.assertFalse(secondPage.hasMore());
+        Assertions.assertEquals("Documentarios", secondPage.items().get(0).getName());
+    }
+
+    @Test
+    void givenACursor_whenCallsFindAll_shouldFailWithDomainException() {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc", "abc", TotalMode.EXACT);
+
+        final var actualException = Assertions.assertThrows(CompletionException.class,
+                () -> categoryGateway.findAll(aQuery).join());
+
+        Assertions.assertInstanceOf(DomainException.class, actualException.getCause());
+    }
+}
@@ -0,0 +1,88 @@
+package com.admin.catalogo.infrastructure.category.search;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategorySearchQuery;
+import com.admin.catalogo.infrastructure.category.CategoryRepository;
+import com.admin.catalogo.infrastructure.category.outbox.CategoryChangeEvent;
+import com.admin.catalogo.infrastructure.category.outbox.CategoryChangeType;
+import com.admin.catalogo.infrastructure.category.outbox.CategoryOutbox;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.persistence.EntityManager;
+import java.time.Instant;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryIndexLoaderTest {
+
+    @Mock
+    private CategoryRepository repository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private CategoryInvertedIndex index;
+
+    private CategoryIndexLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        this.index = new CategoryInvertedIndex();
+        this.index.markReady();
+        this.loader = new CategoryIndexLoader(repository, entityManager, index);
+    }
+
+    @Test
+    void givenAnUpdateWrittenByAnotherInstance_whenAppliesEvent_shouldReindexCategory() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+        index.index(aCategory);
+
+        final var anUpdated = renamed(aCategory, "Animes", aCategory.getUpdatedAt().plusSeconds(1));
+        loader.apply(event(CategoryChangeType.UPDATED, anUpdated));
+
+        Assertions.assertEquals(0, index.search(new CategorySearchQuery(0, 10, "filmes", "name", "asc")).total());
+        Assertions.assertEquals(1, index.search(new CategorySearchQuery(0, 10, "animes", "name", "asc")).total());
+    }
+
+    @Test
+    void givenAStaleEvent_whenAppliesEvent_shouldKeepNewerVersion() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+        index.index(aCategory);
+
+        final var aStale = renamed(aCategory, "Animes", aCategory.getUpdatedAt().minusSeconds(1));
+        loader.apply(event(CategoryChangeType.UPDATED, aStale));
+
+        Assertions.assertEquals(1, index.search(new CategorySearchQuery(0, 10, "filmes", "name", "asc")).total());
+        Assertions.assertEquals(0, index.search(new CategorySearchQuery(0, 10, "animes", "name", "asc")).total());
+    }
+
+    @Test
+    void givenACategoryDeletedByAnotherInstance_whenAppliesEvent_shouldRemoveIt() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+        index.index(aCategory);
+
+        loader.apply(new CategoryChangeEvent(1, CategoryChangeType.DELETED, aCategory.getId().getValue(), Instant.now(), null));
+
+        Assertions.assertEquals(0, index.size());
+    }
+
+    private static Category renamed(final Category aCategory, final String aName, final Instant updatedAt) {
+        return Category.with(
+                aCategory.getId(),
+                aName,
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                updatedAt,
+                aCategory.getDeletedAt()
+        );
+    }
+
+    private static CategoryChangeEvent event(final CategoryChangeType aType, final Category aCategory) {
+        return new CategoryChangeEvent(1, aType, aCategory.getId().getValue(), Instant.now(), CategoryOutbox.payload(aCategory));
+    }
+}
@@ -0,0 +1,73 @@
+package com.admin.catalogo.infrastructure.category.search;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import com.admin.catalogo.domain.category.CategorySearchQuery;
+import com.admin.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryIndexedGatewayTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private CategoryInvertedIndex index;
+
+    private CategoryIndexedGateway indexedGateway;
+
+    @BeforeEach
+    void setUp() {
+        this.index = new CategoryInvertedIndex();
+        this.indexedGateway = new CategoryIndexedGateway(categoryGateway, index);
+    }
+
+    @Test
+    void givenAnIndexNotReady_whenCallsFindAll_shouldQueryDelegate() {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        when(categoryGateway.findAll(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        indexedGateway.findAll(aQuery);
+
+        verify(categoryGateway, times(1)).findAll(aQuery);
+    }
+
+    @Test
+    void givenAReadyIndex_whenCreatesAndSearches_shouldNotQueryDelegate() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+
+        when(categoryGateway.create(any())).thenAnswer(returnsFirstArg());
+        index.markReady();
+
+        indexedGateway.create(aCategory);
+        final var actualResult = indexedGateway.findAll(new CategorySearchQuery(0, 10, "assist", "name", "asc"));
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals(aCategory.getId(), actualResult.items().get(0).getId());
+        verify(categoryGateway, never()).findAll(any());
+    }
+
+    @Test
+    void givenARelevanceSort_whenCallsFindAll_shouldQueryDelegate() {
+        final var aQuery = new CategorySearchQuery(0, 10, "filmes", "relevance", "asc");
+
+        when(categoryGateway.findAll(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+        index.markReady();
+
+        indexedGateway.findAll(aQuery);
+
+        verify(categoryGateway, times(1)).findAll(aQuery);
+    }
+}
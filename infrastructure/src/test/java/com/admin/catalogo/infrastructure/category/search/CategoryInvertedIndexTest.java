@@ -0,0 +1,127 @@
+package com.admin.catalogo.infrastructure.category.search;
+
+import com.admin.catalogo.domain.category.Category;
+import com.admin.catalogo.domain.category.CategorySearchQuery;
+import com.admin.catalogo.domain.exceptions.DomainException;
+import com.admin.catalogo.domain.pagination.Pagination;
+import com.admin.catalogo.domain.pagination.TotalMode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+class CategoryInvertedIndexTest {
+
+    private CategoryInvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        this.index = new CategoryInvertedIndex();
+
+        List.of(
+                Category.newCategory("Filmes", null)
+                , Category.newCategory("Netflix Originals", "Títulos de autoria da Netflix")
+                , Category.newCategory("Amazon Originals", "Títulos de autoria da Amazon Prime")
+                , Category.newCategory("Documentários", null)
+                , Category.newCategory("Sports", null)
+                , Category.newCategory("Kids", "Conteúdo destinado a crianças")
+                , Category.newCategory("Series", null)
+        ).forEach(index::load);
+
+        this.index.markReady();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "fil,1,Filmes"
+            ,"net,1,Netflix Originals"
+            ,"AMA,1,Amazon Originals"
+            ,"da amazon,1,Amazon Originals"
+            ,"criancas,1,Kids"
+            ,"crianças,1,Kids"
+            ,"DOCUMENTARIOS,1,Documentários"
+            ,"originals,2,Amazon Originals"
+    })
+    void givenAValidTerm_whenCallsSearch_shouldMatchFoldedPrefixes(
+            final String expectedTerms
+            , final long expectedTotal
+            , final String expectedFirstName
+    ) {
+        final var actualResult = index.search(new CategorySearchQuery(0, 10, expectedTerms, "name", "asc"));
+
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(expectedFirstName, actualResult.items().get(0).getName());
+    }
+
+    @Test
+    void givenATermThatIsNotAPrefix_whenCallsSearch_shouldReturnEmpty() {
+        final var actualResult = index.search(new CategorySearchQuery(0, 10, "zon", "name", "asc"));
+
+        Assertions.assertEquals(0, actualResult.total());
+        Assertions.assertTrue(actualResult.items().isEmpty());
+    }
+
+    @Test
+    void givenAValidPage_whenCallsSearch_shouldReturnSortedPage() {
+        final var actualResult = index.search(new CategorySearchQuery(1, 2, "", "name", "desc"));
+
+        Assertions.assertEquals(7, actualResult.total());
+        Assertions.assertEquals(List.of("Netflix Originals", "Kids"),
+                actualResult.items().stream().map(Category::getName).toList());
+        Assertions.assertTrue(actualResult.hasMore());
+    }
+
+    @Test
+    void givenTotalNone_whenCallsSearch_shouldReturnUnknownTotal() {
+        final var aQuery = new CategorySearchQuery(3, 2, "", "name", "asc", null, TotalMode.NONE);
+
+        final var actualResult = index.search(aQuery);
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertFalse(actualResult.hasMore());
+    }
+
+    @Test
+    void givenAnIndexedCategory_whenUpdatesAndRemoves_shouldKeepIndexInSync() {
+        final var aCategory = Category.newCategory("Animes", "Desenhos japoneses");
+        index.index(aCategory);
+
+        Assertions.assertEquals(1, index.search(new CategorySearchQuery(0, 10, "anime", "name", "asc")).total());
+
+        index.index(aCategory.clone().update("Mangás", "Quadrinhos japoneses", true));
+
+        Assertions.assertEquals(0, index.search(new CategorySearchQuery(0, 10, "anime", "name", "asc")).total());
+        Assertions.assertEquals(1, index.search(new CategorySearchQuery(0, 10, "manga", "name", "asc")).total());
+
+        index.remove(aCategory.getId());
+
+        Assertions.assertEquals(0, index.search(new CategorySearchQuery(0, 10, "japoneses", "name", "asc")).total());
+        Assertions.assertEquals(7, index.size());
+    }
+
+    @Test
+    void givenACategoryRemovedWhileLoading_whenLoadsStaleRow_shouldIgnoreIt() {
+        final var loadingIndex = new CategoryInvertedIndex();
+        final var aCategory = Category.newCategory("Animes", "Desenhos japoneses");
+
+        loadingIndex.remove(aCategory.getId());
+        loadingIndex.load(aCategory);
+        loadingIndex.markReady();
+
+        Assertions.assertEquals(0, loadingIndex.size());
+    }
+
+    @Test
+    void givenAnUnsupportedSort_whenCallsSearch_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'sort' active is not supported";
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> index.search(new CategorySearchQuery(0, 10, "", "active", "asc")));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -0,0 +1,264 @@
+package com.admin.catalogo.infrastructure.category.stream;
+
+import com.admin.catalogo.infrastructure.category.persistence.BinaryUUIDs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+class CategoryEventStreamTest {
+
+    private DriverManagerDataSource dataSource;
+    private final List<CategoryEventStream> streams = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        this.dataSource = new DriverManagerDataSource("jdbc:h2:mem:category_event_stream;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+
+        final var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS category_outbox");
+        jdbcTemplate.execute("""
+                CREATE TABLE category_outbox (
+                    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                    category_id BINARY(16) NOT NULL,
+                    type VARCHAR(16) NOT NULL,
+                    payload TEXT NULL,
+                    occurred_at DATETIME(6) NOT NULL,
+                    published_at DATETIME(6) NULL
+                )""");
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.streams.forEach(CategoryEventStream::close);
+    }
+
+    @Test
+    void givenTwoSubscribers_whenNewEventsAreWritten_shouldSendEveryEventToBoth() throws Exception {
+        final var stream = newStream(Duration.ZERO, 16);
+        final var first = new RecordingEmitter();
+        final var second = new RecordingEmitter();
+
+        stream.subscribe(first, null);
+        stream.subscribe(second, null);
+        // O subscribe roda na thread do dispatcher: espera ele registrar o MAX(id) antes dos inserts
+        stream.poll().get();
+        insert(1, 2);
+        stream.poll().get();
+
+        for (final var emitter : List.of(first, second)) {
+            Assertions.assertTrue(emitter.next().startsWith("id:1\nevent:created\ndata:"));
+            Assertions.assertTrue(emitter.next().startsWith("id:2\nevent:created\ndata:"));
+        }
+        Assertions.assertEquals(2, stream.connections());
+    }
+
+    @Test
+    void givenAListener_whenNewEventsAreWritten_shouldReceiveThemWithoutSubscribers() throws Exception {
+        final var stream = newStream(Duration.ZERO, 16);
+        final var received = new LinkedBlockingQueue<String>();
+        stream.addListener(event -> received.add(event.categoryId()));
+        stream.addListener(event -> {
+            throw new IllegalStateException("Falha em outro listener");
+        });
+
+        stream.poll().get();
+        insert(1, 2);
+        stream.poll().get();
+
+        Assertions.assertEquals(List.of(idOf(1), idOf(2)), List.copyOf(received));
+    }
+
+    @Test
+    void givenALastEventIdFromAnotherInstance_whenSubscribes_shouldReplayOnlyLaterEvents() throws Exception {
+        insert(1, 2, 3);
+
+        // Esta instância nunca entregou esses eventos: o replay vem do banco
+        final var stream = newStream(Duration.ZERO, 16);
+        final var emitter = new RecordingEmitter();
+        stream.subscribe(emitter, "2");
+
+        Assertions.assertTrue(emitter.next().startsWith("id:3\n"));
+        Assertions.assertNull(emitter.poll());
+    }
+
+    @Test
+    void givenALastEventIdAlreadyPurged_whenSubscribes_shouldSendReset() throws Exception {
+        insert(1, 2, 3, 4);
+        new JdbcTemplate(dataSource).update("DELETE FROM category_outbox WHERE id <= 2");
+
+        final var stream = newStream(Duration.ZERO, 16);
+        final var emitter = new RecordingEmitter();
+        stream.subscribe(emitter, "1");
+
+        Assertions.assertTrue(emitter.next().startsWith("event:" + CategoryEventStream.RESET_EVENT + "\n"));
+    }
+
+    @Test
+    void givenAReplayLargerThanTheClientQueue_whenSubscribes_shouldSendReset() throws Exception {
+        insert(1, 2, 3, 4);
+
+        final var stream = newStream(Duration.ZERO, 2);
+        final var emitter = new RecordingEmitter();
+        stream.subscribe(emitter, "0");
+
+        Assertions.assertTrue(emitter.next().startsWith("event:" + CategoryEventStream.RESET_EVENT + "\n"));
+        Assertions.assertNull(emitter.poll());
+    }
+
+    @Test
+    void givenAnInvalidLastEventId_whenSubscribes_shouldSendReset() throws Exception {
+        final var stream = newStream(Duration.ZERO, 16);
+        final var emitter = new RecordingEmitter();
+        stream.subscribe(emitter, "abc");
+
+        Assertions.assertTrue(emitter.next().startsWith("event:" + CategoryEventStream.RESET_EVENT + "\n"));
+    }
+
+    @Test
+    void givenAnEventWrittenWithinTheCommitGrace_whenPolls_shouldHoldIt() throws Exception {
+        final var stream = newStream(Duration.ofHours(1), 16);
+        final var emitter = new RecordingEmitter();
+
+        stream.subscribe(emitter, null);
+        stream.poll().get();
+        insert(1);
+        stream.poll().get();
+
+        Assertions.assertNull(emitter.poll());
+    }
+
+    @Test
+    void givenABrokenConnection_whenNewEventsAreWritten_shouldDropOnlyThatSubscriber() throws Exception {
+        final var stream = newStream(Duration.ZERO, 16);
+        final var broken = new RecordingEmitter();
+        final var healthy = new RecordingEmitter();
+        broken.fail = true;
+
+        stream.subscribe(broken, null);
+        stream.subscribe(healthy, null);
+        stream.poll().get();
+        insert(1, 2);
+        stream.poll().get();
+
+        Assertions.assertTrue(healthy.next().startsWith("id:1\n"));
+        Assertions.assertTrue(healthy.next().startsWith("id:2\n"));
+        Assertions.assertTrue(broken.failed.await(5, TimeUnit.SECONDS));
+        awaitConnections(stream, 1);
+    }
+
+    @Test
+    void givenASlowClient_whenItsQueueFills_shouldDropItWithoutDelayingTheOthers() throws Exception {
+        final var stream = newStream(Duration.ZERO, 3);
+        final var slow = new RecordingEmitter();
+        final var healthy = new RecordingEmitter();
+        slow.blocked = new CountDownLatch(1);
+
+        stream.subscribe(slow, null);
+        stream.subscribe(healthy, null);
+        stream.poll().get();
+
+        // O primeiro envio trava o cliente lento; os seguintes cabem na fila dele
+        insert(1, 2, 3);
+        stream.poll().get();
+        Assertions.assertTrue(slow.sending.await(5, TimeUnit.SECONDS));
+        for (long sequence = 1; sequence <= 3; sequence++) {
+            Assertions.assertTrue(healthy.next().startsWith("id:" + sequence + "\n"));
+        }
+
+        insert(4, 5);
+        stream.poll().get();
+        Assertions.assertTrue(healthy.next().startsWith("id:4\n"));
+        Assertions.assertTrue(healthy.next().startsWith("id:5\n"));
+        Assertions.assertEquals(1, stream.connections());
+
+        slow.blocked.countDown();
+        Assertions.assertTrue(slow.completed.await(5, TimeUnit.SECONDS));
+    }
+
+    private CategoryEventStream newStream(final Duration commitGrace, final int clientQueueSize) {
+        final var stream = new CategoryEventStream(
+                dataSource, Duration.ofMinutes(1), Duration.ofMinutes(1), Duration.ofMinutes(1), commitGrace, clientQueueSize, 2);
+        this.streams.add(stream);
+        return stream;
+    }
+
+    private static void awaitConnections(final CategoryEventStream stream, final int expected) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (stream.connections() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(expected, stream.connections());
+    }
+
+    private void insert(final long... sequences) {
+        final var jdbcTemplate = new JdbcTemplate(dataSource);
+        LongStream.of(sequences).forEach(sequence -> jdbcTemplate.update(
+                "INSERT INTO category_outbox (id, category_id, type, payload, occurred_at) VALUES (?, ?, 'CREATED', NULL, CURRENT_TIMESTAMP)",
+                sequence, BinaryUUIDs.toBytes(idOf(sequence))));
+    }
+
+    private static String idOf(final long sequence) {
+        return "00000000-0000-0000-0000-%012d".formatted(sequence);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch failed = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private volatile boolean fail;
+        private volatile CountDownLatch blocked;
+
+        @Override
+        public void send(final SseEventBuilder builder) throws IOException {
+            if (fail) {
+                failed.countDown();
+                throw new IOException("Broken pipe");
+            }
+            if (blocked != null) {
+                sending.countDown();
+                try {
+                    blocked.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            sent.add(builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+            super.complete();
+        }
+
+        String next() throws InterruptedException {
+            final var message = sent.poll(5, TimeUnit.SECONDS);
+            Assertions.assertNotNull(message);
+            return message;
+        }
+
+        String poll() throws InterruptedException {
+            return sent.poll(200, TimeUnit.MILLISECONDS);
+        }
+    }
+}
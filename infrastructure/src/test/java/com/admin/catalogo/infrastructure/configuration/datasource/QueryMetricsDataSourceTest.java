@@ -0,0 +1,83 @@
+package com.admin.catalogo.infrastructure.configuration.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+
+class QueryMetricsDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryMetricsDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.dataSource = new QueryMetricsDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:query_metrics;DB_CLOSE_DELAY=-1"),
+                "master",
+                meterRegistry,
+                Duration.ZERO
+        );
+
+        try (final var connection = dataSource.getConnection(); final var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS category");
+            statement.execute("CREATE TABLE category (id VARCHAR(36) PRIMARY KEY, name VARCHAR(255))");
+        }
+    }
+
+    @Test
+    void givenAnOrigin_whenExecutesStatements_shouldRecordTimeAndRowsPerOrigin() throws Exception {
+        final var previous = QueryOrigin.enter("CategoryMySQLGateway.createAll");
+        try (final var connection = dataSource.getConnection();
+             final var insert = connection.prepareStatement("INSERT INTO category (id, name) VALUES (?, ?)")) {
+            for (int i = 0; i < 3; i++) {
+                insert.setString(1, "id-" + i);
+                insert.setString(2, "Filmes " + i);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        } finally {
+            QueryOrigin.exit(previous);
+        }
+
+        QueryOrigin.enter("CategoryMySQLGateway.findAll");
+        try (final var connection = dataSource.getConnection();
+             final var select = connection.prepareStatement("SELECT id FROM category WHERE name LIKE ?")) {
+            select.setString(1, "Filmes%");
+            try (final var resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    Assertions.assertNotNull(resultSet.getString(1));
+                }
+            }
+        } finally {
+            QueryOrigin.exit(null);
+        }
+
+        Assertions.assertEquals(1, meterRegistry.get(QueryMetricsDataSource.TIMER_NAME)
+                .tags("pool", "master", "origin", "CategoryMySQLGateway.createAll", "kind", "insert")
+                .timer().count());
+        Assertions.assertEquals(3, meterRegistry.get(QueryMetricsDataSource.ROWS_NAME)
+                .tags("origin", "CategoryMySQLGateway.createAll", "kind", "insert")
+                .summary().totalAmount());
+
+        Assertions.assertEquals(1, meterRegistry.get(QueryMetricsDataSource.TIMER_NAME)
+                .tags("origin", "CategoryMySQLGateway.findAll", "kind", "select")
+                .timer().count());
+        Assertions.assertEquals(3, meterRegistry.get(QueryMetricsDataSource.ROWS_NAME)
+                .tags("origin", "CategoryMySQLGateway.findAll", "kind", "select")
+                .summary().totalAmount());
+
+        Assertions.assertEquals(QueryOrigin.UNKNOWN, QueryOrigin.current());
+    }
+
+    @Test
+    void givenAStatement_whenClassifiesKind_shouldUseFirstKeyword() {
+        Assertions.assertEquals("select", QueryMetricsDataSource.kindOf("  select count(*) from category"));
+        Assertions.assertEquals("update", QueryMetricsDataSource.kindOf("UPDATE category SET name = ?"));
+        Assertions.assertEquals("other", QueryMetricsDataSource.kindOf("ALTER TABLE category"));
+    }
+}
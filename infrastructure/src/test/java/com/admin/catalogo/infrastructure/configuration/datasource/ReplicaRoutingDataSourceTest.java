@@ -0,0 +1,122 @@
+package com.admin.catalogo.infrastructure.configuration.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.Cookie;
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @AfterEach
+    void cleanUp() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        DataSourceRoute.clear();
+    }
+
+    @Test
+    void givenAReadOnlyTransaction_whenDeterminesRoute_shouldUseReplica() {
+        final var routing = new ReplicaRoutingDataSource(primary, replica);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Assertions.assertEquals(ReplicaRoutingDataSource.Route.REPLICA, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void givenAReadWriteTransaction_whenDeterminesRoute_shouldUsePrimary() {
+        final var routing = new ReplicaRoutingDataSource(primary, replica);
+
+        Assertions.assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void givenPrimaryForced_whenDeterminesRouteOfReadOnlyTransaction_shouldUsePrimary() {
+        final var routing = new ReplicaRoutingDataSource(primary, replica);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        DataSourceRoute.forcePrimary();
+
+        Assertions.assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void givenAWriteRequest_whenFilters_shouldForcePrimaryAndSetStickinessCookie() throws Exception {
+        final var filter = new ReadYourWritesFilter(Duration.ofSeconds(2), Clock.fixed(NOW, ZoneOffset.UTC));
+        final var request = new MockHttpServletRequest("PUT", "/categories/123");
+        final var response = new MockHttpServletResponse();
+        final var forcedDuringRequest = new AtomicReference<Boolean>();
+
+        filter.doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(final ServletRequest req, final ServletResponse res) {
+                forcedDuringRequest.set(DataSourceRoute.isPrimaryForced());
+            }
+        });
+
+        Assertions.assertTrue(forcedDuringRequest.get());
+        Assertions.assertFalse(DataSourceRoute.isPrimaryForced());
+
+        final var cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        Assertions.assertNotNull(cookie);
+        Assertions.assertEquals(Long.toString(NOW.plusSeconds(2).toEpochMilli()), cookie.getValue());
+    }
+
+    @Test
+    void givenAReadWithExpiredCookie_whenFilters_shouldNotForcePrimary() throws Exception {
+        final var filter = new ReadYourWritesFilter(Duration.ofSeconds(2), Clock.fixed(NOW, ZoneOffset.UTC));
+        final var request = new MockHttpServletRequest("GET", "/categories");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(NOW.minusSeconds(1).toEpochMilli())));
+        final var forcedDuringRequest = new AtomicReference<Boolean>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(final ServletRequest req, final ServletResponse res) {
+                forcedDuringRequest.set(DataSourceRoute.isPrimaryForced());
+            }
+        });
+
+        Assertions.assertFalse(forcedDuringRequest.get());
+    }
+
+    @Test
+    void givenAReadWithinStickinessWindow_whenFilters_shouldForcePrimary() throws Exception {
+        final var filter = new ReadYourWritesFilter(Duration.ofSeconds(2), Clock.fixed(NOW, ZoneOffset.UTC));
+        final var request = new MockHttpServletRequest("GET", "/categories");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(NOW.plusSeconds(1).toEpochMilli())));
+        final var forcedDuringRequest = new AtomicReference<Boolean>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(final ServletRequest req, final ServletResponse res) {
+                forcedDuringRequest.set(DataSourceRoute.isPrimaryForced());
+            }
+        });
+
+        Assertions.assertTrue(forcedDuringRequest.get());
+    }
+}
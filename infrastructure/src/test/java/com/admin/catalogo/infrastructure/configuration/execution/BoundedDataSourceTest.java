@@ -0,0 +1,77 @@
+package com.admin.catalogo.infrastructure.configuration.execution;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedDataSourceTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    void givenAllPermitsInUse_whenCallsGetConnection_shouldTimeOut() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        final var bounded = new BoundedDataSource(dataSource, 1, Duration.ofMillis(10));
+
+        final var first = bounded.getConnection();
+
+        Assertions.assertEquals(0, bounded.availablePermits());
+        Assertions.assertThrows(SQLTransientConnectionException.class, bounded::getConnection);
+        verify(dataSource, times(1)).getConnection();
+
+        first.close();
+
+        Assertions.assertEquals(1, bounded.availablePermits());
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    void givenAConnectionClosedTwice_whenCallsClose_shouldReleasePermitOnce() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        final var bounded = new BoundedDataSource(dataSource, 2, Duration.ofMillis(10));
+
+        final var aConnection = bounded.getConnection();
+        aConnection.close();
+        aConnection.close();
+
+        Assertions.assertEquals(2, bounded.availablePermits());
+    }
+
+    @Test
+    void givenAPoolError_whenCallsGetConnection_shouldReleasePermit() throws Exception {
+        when(dataSource.getConnection()).thenThrow(new SQLException("Connection is not available"));
+
+        final var bounded = new BoundedDataSource(dataSource, 1, Duration.ofMillis(10));
+
+        Assertions.assertThrows(SQLException.class, bounded::getConnection);
+        Assertions.assertEquals(1, bounded.availablePermits());
+    }
+
+    @Test
+    void givenABoundedConnection_whenCallsOtherMethods_shouldDelegate() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(false);
+
+        final var bounded = new BoundedDataSource(dataSource, 1, Duration.ofMillis(10));
+
+        Assertions.assertFalse(bounded.getConnection().getAutoCommit());
+        Assertions.assertEquals(0, bounded.availablePermits());
+    }
+}
@@ -0,0 +1,94 @@
+package com.admin.catalogo.infrastructure.configuration.metrics;
+
+import com.admin.catalogo.application.category.category.create.CreateCategoryCommand;
+import com.admin.catalogo.application.category.category.create.CreateCategoryUseCase;
+import com.admin.catalogo.application.category.category.create.DefaultCreateCategoryUseCase;
+import com.admin.catalogo.application.category.category.delete.DefaultAsyncDeleteCategoryUseCase;
+import com.admin.catalogo.application.category.category.delete.DeleteCategoryUseCase;
+import com.admin.catalogo.application.category.category.delete.DefaultDeleteCategoryUseCase;
+import com.admin.catalogo.domain.category.AsyncCategoryGateway;
+import com.admin.catalogo.domain.category.CategoryGateway;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UseCaseMetricsTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private AsyncCategoryGateway asyncCategoryGateway;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void givenAnInstrumentedUseCase_whenCallsExecute_shouldRecordOutcomePerUseCase() {
+        when(categoryGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        final CreateCategoryUseCase useCase = UseCaseMetrics.instrument(new DefaultCreateCategoryUseCase(categoryGateway), meterRegistry);
+
+        useCase.execute(CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true));
+        useCase.execute(CreateCategoryCommand.with(null, "A categoria mais assistida", true));
+
+        Assertions.assertEquals(1, timerCount("CreateCategoryUseCase", "success"));
+        Assertions.assertEquals(1, timerCount("CreateCategoryUseCase", "rejected"));
+    }
+
+    @Test
+    void givenAGatewayError_whenCallsExecute_shouldCountErrorAndRethrow() {
+        doThrow(new IllegalStateException("Gateway error")).when(categoryGateway).deleteById(any());
+
+        final DeleteCategoryUseCase useCase = UseCaseMetrics.instrument(new DefaultDeleteCategoryUseCase(categoryGateway), meterRegistry);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute("123"));
+
+        Assertions.assertEquals(1, timerCount("DeleteCategoryUseCase", "error"));
+        Assertions.assertEquals(1, meterRegistry.get(UseCaseMetrics.ERRORS_NAME)
+                .tag("usecase", "DeleteCategoryUseCase")
+                .tag("exception", "IllegalStateException")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void givenAnAsyncUseCase_whenFutureFails_shouldRecordOnCompletion() {
+        final var future = new CompletableFuture<Void>();
+        when(asyncCategoryGateway.deleteById(any())).thenReturn(future);
+
+        final var useCase = UseCaseMetrics.instrument(new DefaultAsyncDeleteCategoryUseCase(asyncCategoryGateway), meterRegistry);
+
+        final var result = useCase.execute("123");
+        Assertions.assertNull(meterRegistry.find(UseCaseMetrics.TIMER_NAME).timer());
+
+        future.completeExceptionally(new IllegalStateException("Gateway error"));
+
+        Assertions.assertThrows(CompletionException.class, result::join);
+        Assertions.assertEquals(1, timerCount("AsyncDeleteCategoryUseCase", "error"));
+    }
+
+    private long timerCount(final String useCase, final String outcome) {
+        return meterRegistry.get(UseCaseMetrics.TIMER_NAME)
+                .tag("usecase", useCase)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+}